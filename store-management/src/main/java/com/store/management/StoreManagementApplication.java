@@ -1,11 +1,16 @@
 package com.store.management;
 
+import com.store.management.config.StoreManagementRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableCaching
+@EnableScheduling
+@ImportRuntimeHints(StoreManagementRuntimeHints.class)
 public class StoreManagementApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,13 @@
+package com.store.management.archive;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "store.archive")
+public record ArchiveProperties(@DefaultValue("true") boolean enabled,
+                                @DefaultValue("30d") Duration retention,
+                                @DefaultValue("500") int batchSize,
+                                @DefaultValue("1h") Duration interval) {
+}
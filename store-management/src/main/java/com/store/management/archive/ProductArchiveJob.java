@@ -0,0 +1,40 @@
+package com.store.management.archive;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Periodically archives products that have been inactive for longer than
+ * {@code store.archive.retention}. Each batch commits on its own so the job never holds long locks
+ * on the live table.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@EnableConfigurationProperties(ArchiveProperties.class)
+public class ProductArchiveJob {
+    private final ArchiveProperties properties;
+    private final ProductArchiver archiver;
+
+    @Scheduled(fixedDelayString = "${store.archive.interval:1h}", initialDelayString = "${store.archive.interval:1h}")
+    public void run() {
+        if (!properties.enabled()) {
+            return;
+        }
+        var cutoff = OffsetDateTime.now().minus(properties.retention());
+        int total = 0;
+        int moved;
+        do {
+            moved = archiver.archiveBatch(cutoff, properties.batchSize());
+            total += moved;
+        } while (moved == properties.batchSize());
+        if (total > 0) {
+            log.info("Archived {} products inactive since before {}", total, cutoff);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.store.management.archive;
+
+import com.store.management.entity.Product;
+import com.store.management.mapper.ArchivedProductMapper;
+import com.store.management.repository.ArchivedProductRepository;
+import com.store.management.repository.ArchivedStoreStockRepository;
+import com.store.management.repository.ProductRepository;
+import com.store.management.repository.ProductStockTotalRepository;
+import com.store.management.repository.StoreStockRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Moves inactive products from {@code products} to {@code products_archive}, and their per-store
+ * stock from {@code product_store_stock} to {@code product_store_stock_archive}. Copy and delete
+ * share a transaction, so a product is always in exactly one of the two tables.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductArchiver {
+    private final ProductRepository productRepository;
+    private final ArchivedProductRepository archivedProductRepository;
+    private final StoreStockRepository storeStockRepository;
+    private final ArchivedStoreStockRepository archivedStoreStockRepository;
+    private final ProductStockTotalRepository stockTotalRepository;
+    private final ArchivedProductMapper mapper;
+    private final CacheManager cacheManager;
+
+    /**
+     * @return number of products archived; fewer than {@code batchSize} means nothing is left to move
+     */
+    @Transactional
+    public int archiveBatch(OffsetDateTime cutoff, int batchSize) {
+        var batch = productRepository.findByActiveFalseAndDeactivatedAtBefore(cutoff,
+                PageRequest.of(0, batchSize, Sort.by("deactivatedAt", "id")));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        archive(batch);
+        log.debug("Archived {} products deactivated before {}", batch.size(), cutoff);
+        return batch.size();
+    }
+
+    /**
+     * Archives {@code products} right away, regardless of retention. The deletes are flushed before
+     * returning, so the caller can insert a product reusing one of the freed SKUs or names in the
+     * same transaction.
+     */
+    @Transactional
+    public void archive(List<Product> products) {
+        if (products.isEmpty()) {
+            return;
+        }
+        var ids = products.stream().map(Product::getId).toList();
+        archivedProductRepository.saveAll(products.stream().map(mapper::toArchive).toList());
+        var stock = storeStockRepository.findAllByProductIdIn(ids);
+        archivedStoreStockRepository.saveAll(stock.stream().map(mapper::toArchive).toList());
+        storeStockRepository.deleteAll(stock);
+        stockTotalRepository.deleteAllByIdInBatch(ids);
+        productRepository.deleteAll(products);
+        productRepository.flush();
+
+        var cache = cacheManager.getCache("productBySku");
+        if (cache != null) {
+            products.forEach(product -> cache.evict(product.getSku()));
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package com.store.management.async;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.store.management.dto.WriteStatusDto;
+import com.store.management.dto.WriteStatusDto.State;
+import com.store.management.entity.Product;
+import com.store.management.exception.ResourceNotFoundException;
+import com.store.management.exception.StockTrackedPerStoreException;
+import com.store.management.exception.WriteQueueFullException;
+import com.store.management.repository.ProductRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Write-behind pipeline for price and stock updates. Accepted writes are coalesced per SKU until the
+ * flusher picks them up, so only the latest price and the latest stock of each SKU reach the
+ * database. A single flusher thread commits up to {@code max-batch-size} SKUs per transaction, which
+ * keeps writes to one SKU in submission order. If a group fails, its SKUs are retried one transaction
+ * each so a single bad row does not fail the rest. Only writes to an existing, active SKU are
+ * accepted; a write to a product soft-deleted before the flush fails its ticket as not found. Each
+ * write gets a ticket whose state can be polled until {@code status-ttl} expires, or until more than
+ * {@code max-statuses} newer tickets push it out; either way the poll then returns 404.
+ */
+@Component
+@Slf4j
+@EnableConfigurationProperties(AsyncWriteProperties.class)
+public class AsyncProductWriter {
+    private final AsyncWriteProperties properties;
+    private final ProductRepository productRepository;
+    private final CacheManager cacheManager;
+    private final TransactionTemplate tx;
+    private final Cache<String, WriteStatusDto> statuses;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition stopping = lock.newCondition();
+    private final LinkedHashMap<String, PendingWrite> pending = new LinkedHashMap<>();
+    private int pendingTickets;
+    private volatile boolean running;
+    private Thread flusher;
+
+    public AsyncProductWriter(AsyncWriteProperties properties, ProductRepository productRepository,
+                              CacheManager cacheManager, PlatformTransactionManager transactionManager) {
+        this.properties = properties;
+        this.productRepository = productRepository;
+        this.cacheManager = cacheManager;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.statuses = Caffeine.newBuilder()
+                .expireAfterWrite(properties.statusTtl())
+                .maximumSize(properties.maxStatuses())
+                .build();
+    }
+
+    /**
+     * @return whether {@code prefer} (an RFC 7240 {@code Prefer} header) asks for {@code respond-async}
+     */
+    public static boolean prefersAsync(String prefer) {
+        if (prefer == null) {
+            return false;
+        }
+        for (var preference : prefer.split(",")) {
+            var token = preference.split("[;=]", 2)[0].strip();
+            if (token.equalsIgnoreCase("respond-async")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    @PostConstruct
+    void start() {
+        if (!properties.enabled()) {
+            return;
+        }
+        running = true;
+        flusher = new Thread(this::flushLoop, "async-product-writer");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    /**
+     * Stops accepting writes and lets the flusher commit everything already accepted.
+     */
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (flusher == null) {
+            return;
+        }
+        lock.lock();
+        try {
+            running = false;
+            notEmpty.signalAll();
+            stopping.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        flusher.join(TimeUnit.SECONDS.toMillis(30));
+    }
+
+    public WriteStatusDto submitPrice(String sku, BigDecimal price) {
+        return submit(sku, write -> write.price = price);
+    }
+
+    public WriteStatusDto submitStock(String sku, Integer stock) {
+        return submit(sku, write -> write.stock = stock);
+    }
+
+    /**
+     * Checked on the primary (read-write transaction), so a SKU created a moment ago is not rejected
+     * by a lagging replica.
+     */
+    private void assertExists(String sku) {
+        if (!Boolean.TRUE.equals(tx.execute(status -> productRepository.existsBySkuAndActiveTrue(sku)))) {
+            throw new ResourceNotFoundException("Product", "sku", sku);
+        }
+    }
+
+    public Optional<WriteStatusDto> status(String id) {
+        return Optional.ofNullable(statuses.getIfPresent(id));
+    }
+
+    private WriteStatusDto submit(String sku, Consumer<PendingWrite> change) {
+        assertExists(sku);
+        var status = WriteStatusDto.pending(UUID.randomUUID().toString(), sku);
+        lock.lock();
+        try {
+            if (!running || pendingTickets >= properties.queueCapacity()) {
+                throw new WriteQueueFullException(properties.queueCapacity());
+            }
+            var write = pending.computeIfAbsent(sku, PendingWrite::new);
+            change.accept(write);
+            write.ticketIds.add(status.id());
+            pendingTickets++;
+            statuses.put(status.id(), status);
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+        return status;
+    }
+
+    private void flushLoop() {
+        while (true) {
+            try {
+                if (!awaitWrites()) {
+                    return;
+                }
+                linger();
+                flush(takeBatch());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Async product writer failed to flush a batch", e);
+            }
+        }
+    }
+
+    /**
+     * @return {@code false} once stopped and drained
+     */
+    private boolean awaitWrites() throws InterruptedException {
+        lock.lock();
+        try {
+            while (pending.isEmpty()) {
+                if (!running) {
+                    return false;
+                }
+                notEmpty.await();
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gives more writes a chance to join the group; cut short on shutdown.
+     */
+    private void linger() throws InterruptedException {
+        lock.lock();
+        try {
+            long nanos = properties.linger().toNanos();
+            while (running && nanos > 0) {
+                nanos = stopping.awaitNanos(nanos);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private List<PendingWrite> takeBatch() {
+        lock.lock();
+        try {
+            var batch = new ArrayList<PendingWrite>(Math.min(pending.size(), properties.maxBatchSize()));
+            var it = pending.values().iterator();
+            while (it.hasNext() && batch.size() < properties.maxBatchSize()) {
+                var write = it.next();
+                it.remove();
+                pendingTickets -= write.ticketIds.size();
+                batch.add(write);
+            }
+            return batch;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void flush(List<PendingWrite> batch) {
+        try {
+            var missing = tx.execute(status -> apply(batch));
+            completeAll(batch, Objects.requireNonNull(missing));
+            log.debug("Committed coalesced writes for {} SKUs in one transaction", batch.size());
+        } catch (RuntimeException groupFailure) {
+            log.debug("Group commit of {} product writes failed, retrying one by one", batch.size(), groupFailure);
+            for (var write : batch) {
+                try {
+                    var missing = tx.execute(status -> apply(List.of(write)));
+                    completeAll(List.of(write), Objects.requireNonNull(missing));
+                } catch (RuntimeException e) {
+                    complete(write, State.FAILED, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private Set<String> apply(List<PendingWrite> batch) {
+        var skus = batch.stream().map(write -> write.sku).toList();
+        var products = productRepository.findAllBySkuIn(skus).stream()
+                .collect(Collectors.toMap(Product::getSku, Function.identity()));
+        var missing = new HashSet<String>();
+        for (var write : batch) {
+            var product = products.get(write.sku);
+            if (product == null || !Boolean.TRUE.equals(product.getActive())) {
+                missing.add(write.sku);
+                continue;
+            }
+            if (write.price != null) {
+                product.setPrice(write.price);
+            }
+            if (write.stock != null) {
+                if (product.isStockTrackedPerStore()) {
+                    throw new StockTrackedPerStoreException(write.sku);
+                }
+                product.setStock(write.stock);
+            }
+        }
+        return missing;
+    }
+
+    private void completeAll(List<PendingWrite> batch, Set<String> missing) {
+        var cache = cacheManager.getCache("productBySku");
+        for (var write : batch) {
+            if (missing.contains(write.sku)) {
+                complete(write, State.FAILED, new ResourceNotFoundException("Product", "sku", write.sku).getMessage());
+            } else {
+                if (cache != null) {
+                    cache.evict(write.sku);
+                }
+                complete(write, State.APPLIED, null);
+            }
+        }
+    }
+
+    private void complete(PendingWrite write, State state, String message) {
+        write.ticketIds.forEach(id -> statuses.asMap().computeIfPresent(id, (k, s) -> s.completed(state, message)));
+    }
+
+    static final class PendingWrite {
+        final String sku;
+        final List<String> ticketIds = new ArrayList<>(1);
+        BigDecimal price;
+        Integer stock;
+
+        PendingWrite(String sku) {
+            this.sku = sku;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.store.management.async;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Write-behind pipeline for {@code Prefer: respond-async} price and stock updates. {@code queue-capacity}
+ * bounds accepted but unflushed writes; {@code linger} is how long the flusher waits for more writes
+ * before committing a group of up to {@code max-batch-size} SKUs. Write statuses are kept for
+ * {@code status-ttl}, and at most {@code max-statuses} of them are held at once (a few hundred bytes
+ * each). Past that bound the oldest tickets are evicted early and poll as 404, like expired ones.
+ */
+@ConfigurationProperties(prefix = "store.async-writes")
+public record AsyncWriteProperties(@DefaultValue("true") boolean enabled,
+                                   @DefaultValue("10000") int queueCapacity,
+                                   @DefaultValue("500") int maxBatchSize,
+                                   @DefaultValue("5ms") Duration linger,
+                                   @DefaultValue("15m") Duration statusTtl,
+                                   @DefaultValue("500000") long maxStatuses) {
+}
@@ -0,0 +1,19 @@
+package com.store.management.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Micro-batching of single-SKU lookups: a batch closes after {@code window} or once it holds
+ * {@code max-batch-size} distinct SKUs, whichever comes first. A caller waits at most {@code timeout}
+ * for its result.
+ */
+@ConfigurationProperties(prefix = "store.cache.batch-loader")
+public record BatchLoaderProperties(@DefaultValue("true") boolean enabled,
+                                    @DefaultValue("500us") Duration window,
+                                    @DefaultValue("64") int maxBatchSize,
+                                    @DefaultValue("4") int parallelism,
+                                    @DefaultValue("2s") Duration timeout) {
+}
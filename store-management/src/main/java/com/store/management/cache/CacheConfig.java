@@ -0,0 +1,69 @@
+package com.store.management.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.store.management.exception.ResourceNotFoundException;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * {@code productBySku} is a weight-bounded async loading cache. Misses and refreshes go through the
+ * loader, and {@code refreshAfterWrite} reloads hot entries in the background before they expire, so
+ * reads keep being served from the cache. The loader hands back {@link ProductBatchLoader}'s future
+ * as is: Caffeine only installs that future under its map lock, and callers wait on it outside, so a
+ * miss holds neither a map bin nor a Caffeine thread for the batch window and query. Concurrent
+ * misses for different SKUs share one query. An unknown SKU fails the load with
+ * {@link ResourceNotFoundException}, so a 404 costs one lookup instead of falling through to the
+ * {@code @Cacheable} method and querying again. A refresh that finds nothing drops the entry.
+ */
+@Configuration
+@EnableConfigurationProperties(ProductCacheProperties.class)
+public class CacheConfig {
+
+    /**
+     * Runs Caffeine's maintenance, removal and refresh bookkeeping instead of the common pool.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService productCacheExecutor() {
+        var threads = new CustomizableThreadFactory("product-cache-");
+        threads.setDaemon(true);
+        return Executors.newFixedThreadPool(2, threads);
+    }
+
+    @Bean
+    public CacheManager cacheManager(ProductCacheProperties properties, ProductBatchLoader batchLoader,
+                                     Executor productCacheExecutor) {
+        var loader = new AsyncCacheLoader<Object, Object>() {
+            @Override
+            public CompletableFuture<Object> asyncLoad(Object sku, Executor executor) {
+                return batchLoader.load((String) sku).thenApply(product -> product
+                        .orElseThrow(() -> new ResourceNotFoundException("Product", "sku", (String) sku)));
+            }
+
+            @Override
+            public CompletableFuture<Object> asyncReload(Object sku, Object oldValue, Executor executor) {
+                return batchLoader.load((String) sku).thenApply(product -> product.orElse(null));
+            }
+        };
+
+        var cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache("productBySku", Caffeine.newBuilder()
+                .executor(productCacheExecutor)
+                .maximumWeight(properties.maximumWeight().toBytes())
+                .weigher(new ProductDtoWeigher())
+                .refreshAfterWrite(properties.refreshAfterWrite())
+                .expireAfterWrite(properties.expireAfterWrite())
+                .recordStats()
+                .buildAsync(loader));
+        return cacheManager;
+    }
+}
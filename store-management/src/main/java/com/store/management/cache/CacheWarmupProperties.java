@@ -0,0 +1,17 @@
+package com.store.management.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "store.cache.warmup")
+public record CacheWarmupProperties(@DefaultValue("true") boolean enabled,
+                                    @DefaultValue("data/hot-skus.txt") Path file,
+                                    @DefaultValue("5000") int topSkus,
+                                    @DefaultValue("100000") int maxTrackedSkus,
+                                    @DefaultValue("5m") Duration persistInterval,
+                                    @DefaultValue("4") int parallelism,
+                                    @DefaultValue("200") int batchSize) {
+}
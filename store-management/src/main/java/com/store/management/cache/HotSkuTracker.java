@@ -0,0 +1,107 @@
+package com.store.management.cache;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts single-SKU reads and periodically writes the most requested SKUs to
+ * {@code store.cache.warmup.file}, hottest first. Counts are halved after each snapshot so the
+ * ranking follows recent traffic.
+ */
+@Component
+@Slf4j
+@EnableConfigurationProperties(CacheWarmupProperties.class)
+public class HotSkuTracker {
+    private final CacheWarmupProperties properties;
+    private final Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+
+    public HotSkuTracker(CacheWarmupProperties properties) {
+        this.properties = properties;
+    }
+
+    public void record(String sku) {
+        if (!properties.enabled()) {
+            return;
+        }
+        var counter = counts.get(sku);
+        if (counter == null) {
+            if (counts.size() >= properties.maxTrackedSkus()) {
+                return;
+            }
+            counter = counts.computeIfAbsent(sku, k -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    public List<String> topSkus(int limit) {
+        return counts.entrySet().stream()
+                .map(e -> Map.entry(e.getKey(), e.getValue().sum()))
+                .filter(e -> e.getValue() > 0)
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    @Scheduled(fixedDelayString = "${store.cache.warmup.persist-interval:5m}",
+            initialDelayString = "${store.cache.warmup.persist-interval:5m}")
+    public void persist() {
+        if (!properties.enabled() || counts.isEmpty()) {
+            return;
+        }
+        var hot = topSkus(properties.topSkus());
+        var target = properties.file().toAbsolutePath();
+        try {
+            Files.createDirectories(target.getParent());
+            var tmp = Files.createTempFile(target.getParent(), "hot-skus", ".tmp");
+            Files.write(tmp, hot, StandardCharsets.UTF_8);
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.debug("Persisted {} hot SKUs to {}", hot.size(), target);
+        } catch (IOException e) {
+            log.warn("Could not persist hot SKUs to {}", target, e);
+        }
+        decay();
+    }
+
+    public List<String> load() {
+        var source = properties.file();
+        if (!Files.isReadable(source)) {
+            return List.of();
+        }
+        try (var lines = Files.lines(source, StandardCharsets.UTF_8)) {
+            return lines.map(String::strip)
+                    .filter(line -> !line.isEmpty())
+                    .limit(properties.topSkus())
+                    .toList();
+        } catch (IOException e) {
+            log.warn("Could not read hot SKUs from {}", source, e);
+            return List.of();
+        }
+    }
+
+    @PreDestroy
+    void persistOnShutdown() {
+        persist();
+    }
+
+    private void decay() {
+        counts.entrySet().removeIf(e -> {
+            long half = e.getValue().sumThenReset() / 2;
+            e.getValue().add(half);
+            return half == 0;
+        });
+    }
+}
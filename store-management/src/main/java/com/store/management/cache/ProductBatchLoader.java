@@ -0,0 +1,195 @@
+package com.store.management.cache;
+
+import com.store.management.dto.ProductDto;
+import com.store.management.entity.ArchivedProduct;
+import com.store.management.entity.Product;
+import com.store.management.mapper.ArchivedProductMapper;
+import com.store.management.mapper.ProductMapper;
+import com.store.management.repository.ArchivedProductRepository;
+import com.store.management.repository.ProductRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves single-SKU lookups in micro-batches. Concurrent callers asking for different SKUs within
+ * {@code store.cache.batch-loader.window} share one natural-id {@code IN} query, and callers asking
+ * for the same SKU share one result. SKUs missing from the live table are then looked up in the
+ * archive with one more {@code IN} query. With {@code enabled=false} every lookup runs on the
+ * caller's thread. Lookups run in a read-write transaction on purpose: with read replicas enabled, a
+ * read-only one could fill the cache from a lagging replica right after a write evicted the entry,
+ * pinning the old value until refresh.
+ */
+@Component
+@Slf4j
+@EnableConfigurationProperties(BatchLoaderProperties.class)
+public class ProductBatchLoader {
+    private final BatchLoaderProperties properties;
+    private final ProductRepository productRepository;
+    private final ArchivedProductRepository archivedProductRepository;
+    private final ProductMapper mapper;
+    private final ArchivedProductMapper archivedMapper;
+    private final TransactionTemplate primaryTx;
+
+    private final BlockingQueue<String> queue = new LinkedBlockingQueue<>();
+    private final Map<String, CompletableFuture<Optional<ProductDto>>> inFlight = new ConcurrentHashMap<>();
+    private ExecutorService executor;
+    private Thread dispatcher;
+    private volatile boolean stopped;
+
+    public ProductBatchLoader(BatchLoaderProperties properties, ProductRepository productRepository,
+                              ArchivedProductRepository archivedProductRepository, ProductMapper mapper,
+                              ArchivedProductMapper archivedMapper, PlatformTransactionManager transactionManager) {
+        this.properties = properties;
+        this.productRepository = productRepository;
+        this.archivedProductRepository = archivedProductRepository;
+        this.mapper = mapper;
+        this.archivedMapper = archivedMapper;
+        this.primaryTx = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!properties.enabled()) {
+            return;
+        }
+        var workers = new ThreadFactory() {
+            private int count;
+
+            @Override
+            public synchronized Thread newThread(Runnable task) {
+                var thread = new Thread(task, "sku-batch-" + count++);
+                thread.setDaemon(true);
+                return thread;
+            }
+        };
+        executor = Executors.newFixedThreadPool(Math.max(1, properties.parallelism()), workers);
+        dispatcher = new Thread(this::dispatch, "sku-batch-dispatcher");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    /**
+     * Fails every queued and in-flight lookup, so no caller is left waiting on a batch that will
+     * never run.
+     */
+    @PreDestroy
+    void stop() {
+        stopped = true;
+        if (dispatcher != null) {
+            dispatcher.interrupt();
+            executor.shutdownNow();
+        }
+        queue.clear();
+        var failure = stoppedException();
+        inFlight.keySet().forEach(sku -> completeExceptionally(sku, failure));
+    }
+
+    /**
+     * The returned future completes exceptionally with a {@link TimeoutException} when no result
+     * arrives within {@code store.cache.batch-loader.timeout}. The timeout applies to this caller
+     * only; others waiting on the same SKU keep their own deadline.
+     */
+    public CompletableFuture<Optional<ProductDto>> load(String sku) {
+        if (stopped) {
+            return CompletableFuture.failedFuture(stoppedException());
+        }
+        if (dispatcher == null) {
+            return CompletableFuture.completedFuture(resolve(List.of(sku)).get(sku));
+        }
+        var created = new CompletableFuture<Optional<ProductDto>>();
+        var existing = inFlight.putIfAbsent(sku, created);
+        if (existing == null) {
+            queue.add(sku);
+            if (stopped) {
+                completeExceptionally(sku, stoppedException());
+            }
+        }
+        return (existing != null ? existing : created).copy()
+                .orTimeout(properties.timeout().toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private void dispatch() {
+        long window = properties.window().toNanos();
+        int maxBatchSize = Math.max(1, properties.maxBatchSize());
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                var batch = new ArrayList<String>(maxBatchSize);
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + window;
+                while (batch.size() < maxBatchSize) {
+                    var next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                executor.execute(() -> complete(batch));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RejectedExecutionException e) {
+                log.debug("SKU batch loader is shutting down");
+                return;
+            }
+        }
+    }
+
+    private void complete(List<String> batch) {
+        try {
+            var results = resolve(batch);
+            batch.forEach(sku -> {
+                var future = inFlight.remove(sku);
+                if (future != null) {
+                    future.complete(results.get(sku));
+                }
+            });
+            log.debug("Resolved {} SKUs in one batch", batch.size());
+        } catch (Throwable e) {
+            batch.forEach(sku -> completeExceptionally(sku, e));
+        }
+    }
+
+    private void completeExceptionally(String sku, Throwable failure) {
+        var future = inFlight.remove(sku);
+        if (future != null) {
+            future.completeExceptionally(failure);
+        }
+    }
+
+    private static IllegalStateException stoppedException() {
+        return new IllegalStateException("SKU batch loader is stopped");
+    }
+
+    private Map<String, Optional<ProductDto>> resolve(List<String> skus) {
+        return primaryTx.execute(status -> {
+            var live = productRepository.findAllBySkuIn(skus).stream()
+                    .collect(Collectors.toMap(Product::getSku, Function.identity()));
+            var misses = skus.stream().filter(sku -> !live.containsKey(sku)).toList();
+            Map<String, ArchivedProduct> archived = misses.isEmpty() ? Map.of()
+                    : archivedProductRepository.findAllBySkuIn(misses).stream()
+                    .collect(Collectors.toMap(ArchivedProduct::getSku, Function.identity(),
+                            BinaryOperator.maxBy(Comparator.comparing(ArchivedProduct::getArchivedAt))));
+            return skus.stream().collect(Collectors.toMap(Function.identity(), sku -> {
+                var product = live.get(sku);
+                if (product != null) {
+                    return Optional.of(mapper.toDto(product));
+                }
+                return Optional.ofNullable(archived.get(sku)).map(archivedMapper::toDto);
+            }));
+        });
+    }
+}
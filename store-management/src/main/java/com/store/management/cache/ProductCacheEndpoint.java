@@ -0,0 +1,79 @@
+package com.store.management.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * {@code /actuator/productcache}: hit rate, weighted size and heap headroom for {@code productBySku},
+ * and a write operation to change its maximum weight without a restart.
+ */
+@Component
+@Endpoint(id = "productcache")
+public class ProductCacheEndpoint {
+    private final CacheManager cacheManager;
+    private final ProductCacheProperties properties;
+
+    public ProductCacheEndpoint(CacheManager cacheManager, ProductCacheProperties properties) {
+        this.cacheManager = cacheManager;
+        this.properties = properties;
+    }
+
+    @ReadOperation
+    public ProductCacheStatus status() {
+        var cache = nativeCache();
+        var stats = cache.stats();
+        var eviction = cache.policy().eviction().orElseThrow();
+        var runtime = Runtime.getRuntime();
+        long heapUsed = runtime.totalMemory() - runtime.freeMemory();
+        return new ProductCacheStatus(
+                cache.estimatedSize(),
+                eviction.weightedSize().orElse(0L),
+                eviction.getMaximum(),
+                maxAllowedWeight(),
+                stats.hitRate(),
+                stats.requestCount(),
+                stats.evictionCount(),
+                stats.averageLoadPenalty() / 1_000_000d,
+                runtime.maxMemory(),
+                runtime.maxMemory() - heapUsed);
+    }
+
+    @WriteOperation
+    public ProductCacheStatus resize(long maximumWeight) {
+        if (maximumWeight <= 0 || maximumWeight > maxAllowedWeight()) {
+            throw new InvalidEndpointRequestException("maximumWeight must be between 1 and " + maxAllowedWeight()
+                    + " bytes (" + properties.maxHeapFraction() + " of max heap)", "Invalid maximumWeight");
+        }
+        nativeCache().policy().eviction().orElseThrow().setMaximum(maximumWeight);
+        return status();
+    }
+
+    private long maxAllowedWeight() {
+        return (long) (Runtime.getRuntime().maxMemory() * properties.maxHeapFraction());
+    }
+
+    private Cache<Object, Object> nativeCache() {
+        var cache = (CaffeineCache) Objects.requireNonNull(cacheManager.getCache("productBySku"));
+        return cache.getNativeCache();
+    }
+
+    public record ProductCacheStatus(long entries,
+                                     long weightedSizeBytes,
+                                     long maximumWeightBytes,
+                                     long maxAllowedWeightBytes,
+                                     double hitRate,
+                                     long requests,
+                                     long evictions,
+                                     double averageLoadMillis,
+                                     long heapMaxBytes,
+                                     long heapHeadroomBytes) {
+    }
+}
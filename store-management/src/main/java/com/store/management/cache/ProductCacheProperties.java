@@ -0,0 +1,18 @@
+package com.store.management.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Sizing for the {@code productBySku} cache. The bound is an estimated heap footprint rather than an
+ * entry count; {@code max-heap-fraction} caps how far it can be resized at runtime.
+ */
+@ConfigurationProperties(prefix = "store.cache.product-by-sku")
+public record ProductCacheProperties(@DefaultValue("64MB") DataSize maximumWeight,
+                                     @DefaultValue("5m") Duration refreshAfterWrite,
+                                     @DefaultValue("30m") Duration expireAfterWrite,
+                                     @DefaultValue("0.25") double maxHeapFraction) {
+}
@@ -0,0 +1,91 @@
+package com.store.management.cache;
+
+import com.store.management.mapper.ProductMapper;
+import com.store.management.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bulk-loads the SKUs saved by {@link HotSkuTracker} into {@code productBySku} at startup.
+ * Application runners finish before readiness switches to {@code ACCEPTING_TRAFFIC}, so the
+ * instance only reports ready on {@code /actuator/health} once the cache is warm. Like
+ * {@link ProductBatchLoader}, it reads from the primary so the cache never starts out behind it.
+ */
+@Component
+@Slf4j
+public class ProductCacheWarmer implements ApplicationRunner {
+    private final HotSkuTracker tracker;
+    private final CacheWarmupProperties properties;
+    private final ProductRepository productRepository;
+    private final ProductMapper mapper;
+    private final CacheManager cacheManager;
+    private final TransactionTemplate primaryTx;
+
+    public ProductCacheWarmer(HotSkuTracker tracker, CacheWarmupProperties properties,
+                              ProductRepository productRepository, ProductMapper mapper,
+                              CacheManager cacheManager, PlatformTransactionManager transactionManager) {
+        this.tracker = tracker;
+        this.properties = properties;
+        this.productRepository = productRepository;
+        this.mapper = mapper;
+        this.cacheManager = cacheManager;
+        this.primaryTx = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!properties.enabled()) {
+            return;
+        }
+        var skus = tracker.load();
+        if (skus.isEmpty()) {
+            return;
+        }
+        var cache = Objects.requireNonNull(cacheManager.getCache("productBySku"));
+        var loaded = new AtomicInteger();
+        long start = System.nanoTime();
+        var executor = Executors.newFixedThreadPool(Math.max(1, properties.parallelism()));
+        try {
+            var futures = partition(skus, Math.max(1, properties.batchSize())).stream()
+                    .map(batch -> CompletableFuture.runAsync(() -> loaded.addAndGet(load(batch, cache)), executor))
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(futures).join();
+        } catch (RuntimeException e) {
+            log.warn("Cache warmup stopped early after {} products", loaded.get(), e);
+        } finally {
+            executor.shutdownNow();
+        }
+        log.info("Prewarmed productBySku with {}/{} hot SKUs in {} ms",
+                loaded.get(), skus.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private int load(List<String> batch, Cache cache) {
+        var products = primaryTx.execute(status -> productRepository.findAllBySkuIn(batch));
+        if (products == null) {
+            return 0;
+        }
+        products.forEach(p -> cache.put(p.getSku(), mapper.toDto(p)));
+        return products.size();
+    }
+
+    private static List<List<String>> partition(List<String> skus, int size) {
+        var batches = new ArrayList<List<String>>();
+        for (int i = 0; i < skus.size(); i += size) {
+            batches.add(skus.subList(i, Math.min(i + size, skus.size())));
+        }
+        return batches;
+    }
+}
@@ -0,0 +1,43 @@
+package com.store.management.cache;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+import com.store.management.dto.ProductDto;
+
+/**
+ * Approximate retained size in bytes of a {@code productBySku} entry on a 64-bit JVM with compressed
+ * oops and compact strings: cache node and key, the record, and the objects it references.
+ */
+public class ProductDtoWeigher implements Weigher<Object, Object> {
+    private static final int NODE_OVERHEAD = 64;
+    private static final int RECORD = 48;
+    private static final int STRING_HEADER = 40;
+    private static final int BIG_DECIMAL = 40;
+    private static final int BOXED_INTEGER = 16;
+    private static final int OFFSET_DATE_TIME = 96;
+
+    @Override
+    public int weigh(Object key, Object value) {
+        int weight = NODE_OVERHEAD + string(key instanceof String s ? s : null);
+        if (!(value instanceof ProductDto dto)) {
+            return weight + RECORD;
+        }
+        weight += RECORD
+                + string(dto.sku())
+                + string(dto.productName())
+                + string(dto.productDescription());
+        if (dto.price() != null) {
+            weight += BIG_DECIMAL;
+        }
+        if (dto.stock() != null) {
+            weight += BOXED_INTEGER;
+        }
+        if (dto.createdAt() != null) {
+            weight += OFFSET_DATE_TIME;
+        }
+        return weight;
+    }
+
+    private static int string(String value) {
+        return value == null ? 0 : STRING_HEADER + value.length();
+    }
+}
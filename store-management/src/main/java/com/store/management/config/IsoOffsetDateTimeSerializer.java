@@ -0,0 +1,93 @@
+package com.store.management.config;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.OffsetDateTimeSerializer;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+
+/**
+ * Writes {@link OffsetDateTime} in the same ISO-8601 form as Jackson's default serializer, but into a
+ * per-thread buffer instead of going through {@code DateTimeFormatter}, which builds an intermediate
+ * {@code StringBuilder} and {@code String} for every value. Timestamps, {@code @JsonFormat} overrides,
+ * an explicit context time zone ({@code spring.jackson.time-zone}), years outside 0000-9999 and offsets
+ * with seconds use the default serializer.
+ */
+public class IsoOffsetDateTimeSerializer extends StdSerializer<OffsetDateTime> implements ContextualSerializer {
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[35]);
+
+    public IsoOffsetDateTimeSerializer() {
+        super(OffsetDateTime.class);
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) throws JsonMappingException {
+        JsonFormat.Value format = findFormatOverrides(provider, property, handledType());
+        if (format != null && (format.hasPattern() || format.hasShape() || format.hasLocale() || format.hasTimeZone())) {
+            return OffsetDateTimeSerializer.INSTANCE.createContextual(provider, property);
+        }
+        return this;
+    }
+
+    @Override
+    public void serialize(OffsetDateTime value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        int year = value.getYear();
+        int offsetSeconds = value.getOffset().getTotalSeconds();
+        if (year < 0 || year > 9999 || offsetSeconds % 60 != 0
+                || provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                || provider.getConfig().hasExplicitTimeZone()) {
+            OffsetDateTimeSerializer.INSTANCE.serialize(value, gen, provider);
+            return;
+        }
+        char[] buf = BUFFER.get();
+        int pos = digits(buf, 0, year, 4);
+        buf[pos++] = '-';
+        pos = digits(buf, pos, value.getMonthValue(), 2);
+        buf[pos++] = '-';
+        pos = digits(buf, pos, value.getDayOfMonth(), 2);
+        buf[pos++] = 'T';
+        pos = digits(buf, pos, value.getHour(), 2);
+        buf[pos++] = ':';
+        pos = digits(buf, pos, value.getMinute(), 2);
+        buf[pos++] = ':';
+        pos = digits(buf, pos, value.getSecond(), 2);
+
+        int nano = value.getNano();
+        if (nano > 0) {
+            int width = 9;
+            while (nano % 10 == 0) {
+                nano /= 10;
+                width--;
+            }
+            buf[pos++] = '.';
+            pos = digits(buf, pos, nano, width);
+        }
+
+        if (offsetSeconds == 0) {
+            buf[pos++] = 'Z';
+        } else {
+            buf[pos++] = offsetSeconds < 0 ? '-' : '+';
+            int offsetMinutes = Math.abs(offsetSeconds) / 60;
+            pos = digits(buf, pos, offsetMinutes / 60, 2);
+            buf[pos++] = ':';
+            pos = digits(buf, pos, offsetMinutes % 60, 2);
+        }
+        gen.writeString(buf, 0, pos);
+    }
+
+    private static int digits(char[] buf, int pos, int value, int width) {
+        for (int i = pos + width - 1; i >= pos; i--) {
+            buf[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return pos + width;
+    }
+}
@@ -0,0 +1,53 @@
+package com.store.management.config;
+
+import com.store.management.cache.ProductCacheEndpoint;
+import com.store.management.dto.ErrorResponseDto;
+import com.store.management.dto.ProductDto;
+import com.store.management.dto.ResponseDto;
+import com.store.management.dto.WriteStatusDto;
+import com.store.management.dto.groups.OnCreateProduct;
+import com.store.management.dto.groups.OnPriceUpdate;
+import com.store.management.dto.groups.OnStockUpdate;
+import com.store.management.dto.groups.OnUpdateProduct;
+import com.store.management.entity.Product;
+import com.store.management.logging.LossyDebugAsyncAppender;
+import com.store.management.logging.SamplingTurboFilter;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+/**
+ * Native-image hints for what Spring AOT cannot infer on its own: DTOs written directly by servlet
+ * filters and actuator endpoints or returned through {@code ResponseEntity<?>}, validation groups,
+ * MapStruct implementations, logback extensions and the JCache region configuration.
+ */
+public class StoreManagementRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(),
+                ProductDto.class, ResponseDto.class, ErrorResponseDto.class,
+                WriteStatusDto.class, ProductCacheEndpoint.ProductCacheStatus.class);
+
+        for (Class<?> group : new Class<?>[]{OnCreateProduct.class, OnUpdateProduct.class,
+                OnPriceUpdate.class, OnStockUpdate.class}) {
+            hints.reflection().registerType(group);
+        }
+
+        hints.reflection().registerType(Product.class, MemberCategory.values());
+        for (String mapper : new String[]{"com.store.management.mapper.ProductMapperImpl",
+                "com.store.management.mapper.StoreStockMapperImpl",
+                "com.store.management.mapper.ArchivedProductMapperImpl"}) {
+            hints.reflection().registerType(TypeReference.of(mapper), MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+        }
+
+        hints.reflection().registerType(SamplingTurboFilter.class,
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(LossyDebugAsyncAppender.class,
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+
+        hints.resources().registerPattern("hibernate-jcache.conf");
+    }
+}
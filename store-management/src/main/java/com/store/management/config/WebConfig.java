@@ -0,0 +1,36 @@
+package com.store.management.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Binary alternatives to JSON for thin clients, picked by the {@code Accept} / {@code Content-Type}
+ * header ({@code application/cbor}, {@code application/x-jackson-smile}). Both share the application's
+ * Jackson settings, so field names and date handling match the JSON API.
+ */
+@Configuration
+public class WebConfig {
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer offsetDateTimeSerializerCustomizer() {
+        return builder -> builder.serializerByType(OffsetDateTime.class, new IsoOffsetDateTimeSerializer());
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
@@ -9,9 +9,15 @@ public class StoreManagementConstants {
     public static final String PRODUCT_PRICE_UPDATED = "Product price updated successfully";
     public static final String PRODUCT_STOCK_UPDATED = "Product stock updated successfully";
     public static final String PRODUCT_DELETED = "Product deleted successfully";
+    public static final String STORE_STOCK_UPDATED = "Store stock updated successfully";
 
     public static final String STATUS_201 = "201";
     public static final String STATUS_200 = "200";
 
+    public static final String PREFER = "Prefer";
+    public static final String PREFERENCE_APPLIED = "Preference-Applied";
+
     public static final String SKU = "^[A-Z0-9-]{1,64}$";
+    public static final String STORE_CODE = "^[A-Z0-9-]{1,32}$";
+    public static final String DEFAULT_STORE_CODE = "MAIN";
 }
@@ -1,14 +1,21 @@
 package com.store.management.controller;
 
+import com.store.management.async.AsyncProductWriter;
+import com.store.management.cache.HotSkuTracker;
 import com.store.management.constants.StoreManagementConstants;
 import com.store.management.dto.ProductDto;
+import com.store.management.dto.ProductFilterDto;
 import com.store.management.dto.ResponseDto;
+import com.store.management.dto.WriteStatusDto;
 import com.store.management.dto.groups.OnCreateProduct;
 import com.store.management.dto.groups.OnPriceUpdate;
 import com.store.management.dto.groups.OnStockUpdate;
 import com.store.management.dto.groups.OnUpdateProduct;
+import com.store.management.exception.ResourceNotFoundException;
 import com.store.management.service.ProductService;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -20,6 +27,9 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.math.BigDecimal;
+import java.net.URI;
+
 @RestController
 @RequestMapping("/api/products")
 @RequiredArgsConstructor
@@ -27,6 +37,8 @@ import org.springframework.web.bind.annotation.*;
 public class ProductController {
 
     private final ProductService service;
+    private final HotSkuTracker hotSkuTracker;
+    private final AsyncProductWriter asyncWriter;
 
     @PostMapping
     @PreAuthorize("hasAnyRole('ADMIN','MANAGER')")
@@ -49,8 +61,13 @@ public class ProductController {
 
     @PatchMapping("/{sku}/price")
     @PreAuthorize("hasAnyRole('ADMIN','MANAGER')")
-    public ResponseEntity<ResponseDto> changePrice(@PathVariable @Pattern(regexp = StoreManagementConstants.SKU) String sku,
-                                                   @Validated(OnPriceUpdate.class) @RequestBody ProductDto productDto) {
+    public ResponseEntity<?> changePrice(@PathVariable @Pattern(regexp = StoreManagementConstants.SKU) String sku,
+                                         @Validated(OnPriceUpdate.class) @RequestBody ProductDto productDto,
+                                         @RequestHeader(value = StoreManagementConstants.PREFER, required = false)
+                                         String prefer) {
+        if (respondAsync(prefer)) {
+            return accepted(asyncWriter.submitPrice(sku, productDto.price()));
+        }
         service.updateProductPrice(sku, productDto.price());
         return ResponseEntity
                 .status(HttpStatus.OK)
@@ -59,8 +76,13 @@ public class ProductController {
 
     @PatchMapping("/{sku}/stock")
     @PreAuthorize("hasAnyRole('ADMIN','MANAGER', 'EMPLOYEE')")
-    public ResponseEntity<ResponseDto> changeStock(@PathVariable @Pattern(regexp = StoreManagementConstants.SKU) String sku,
-                                                   @Validated(OnStockUpdate.class) @RequestBody ProductDto productDto) {
+    public ResponseEntity<?> changeStock(@PathVariable @Pattern(regexp = StoreManagementConstants.SKU) String sku,
+                                         @Validated(OnStockUpdate.class) @RequestBody ProductDto productDto,
+                                         @RequestHeader(value = StoreManagementConstants.PREFER, required = false)
+                                         String prefer) {
+        if (respondAsync(prefer)) {
+            return accepted(asyncWriter.submitStock(sku, productDto.stock()));
+        }
         service.updateProductStock(sku, productDto.stock());
         return ResponseEntity
                 .status(HttpStatus.OK)
@@ -70,15 +92,22 @@ public class ProductController {
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN','MANAGER','EMPLOYEE')")
     public ResponseEntity<Page<ProductDto>> getProducts(@RequestParam(defaultValue = "true") boolean active,
+                                                        @RequestParam(required = false) @PositiveOrZero BigDecimal minPrice,
+                                                        @RequestParam(required = false) @PositiveOrZero BigDecimal maxPrice,
+                                                        @RequestParam(required = false) @Min(0) Integer minStock,
+                                                        @RequestParam(required = false) @Min(0) Integer maxStock,
+                                                        @RequestParam(required = false) String namePrefix,
                                                         @PageableDefault(size = 5, sort = "createdAt",
                                                                 direction = Sort.Direction.DESC) Pageable pageable) {
+        var filter = new ProductFilterDto(active, minPrice, maxPrice, minStock, maxStock, namePrefix);
         return ResponseEntity.
-                status(HttpStatus.OK).body(service.getProducts(active, pageable));
+                status(HttpStatus.OK).body(service.getProducts(filter, pageable));
     }
 
     @GetMapping("/{sku}")
     @PreAuthorize("hasAnyRole('ADMIN','MANAGER','EMPLOYEE')")
     public ResponseEntity<ProductDto> findBySku(@PathVariable @Pattern(regexp = StoreManagementConstants.SKU) String sku) {
+        hotSkuTracker.record(sku);
         ProductDto productDto = service.findBySku(sku);
         return ResponseEntity.
                 status(HttpStatus.OK).body(productDto);
@@ -93,4 +122,24 @@ public class ProductController {
                 .body(new ResponseDto(StoreManagementConstants.STATUS_200, StoreManagementConstants.PRODUCT_DELETED));
     }
 
+    @GetMapping("/writes/{id}")
+    @PreAuthorize("hasAnyRole('ADMIN','MANAGER','EMPLOYEE')")
+    public ResponseEntity<WriteStatusDto> writeStatus(@PathVariable String id) {
+        return asyncWriter.status(id)
+                .map(status -> ResponseEntity.status(HttpStatus.OK).body(status))
+                .orElseThrow(() -> new ResourceNotFoundException("Write", "id", id));
+    }
+
+    private boolean respondAsync(String prefer) {
+        return asyncWriter.isEnabled() && AsyncProductWriter.prefersAsync(prefer);
+    }
+
+    private static ResponseEntity<WriteStatusDto> accepted(WriteStatusDto status) {
+        return ResponseEntity
+                .status(HttpStatus.ACCEPTED)
+                .location(URI.create("/api/products/writes/" + status.id()))
+                .header(StoreManagementConstants.PREFERENCE_APPLIED, "respond-async")
+                .body(status);
+    }
+
 }
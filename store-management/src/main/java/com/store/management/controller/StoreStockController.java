@@ -0,0 +1,45 @@
+package com.store.management.controller;
+
+import com.store.management.constants.StoreManagementConstants;
+import com.store.management.dto.ResponseDto;
+import com.store.management.dto.StockAdjustmentDto;
+import com.store.management.dto.StoreStockDto;
+import com.store.management.service.StoreStockService;
+import jakarta.validation.constraints.Pattern;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/products/{sku}/stores")
+@RequiredArgsConstructor
+@Validated
+public class StoreStockController {
+
+    private final StoreStockService service;
+
+    @GetMapping
+    @PreAuthorize("hasAnyRole('ADMIN','MANAGER','EMPLOYEE')")
+    public ResponseEntity<List<StoreStockDto>> getStoreStock(
+            @PathVariable @Pattern(regexp = StoreManagementConstants.SKU) String sku) {
+        return ResponseEntity.
+                status(HttpStatus.OK).body(service.getStoreStock(sku));
+    }
+
+    @PatchMapping("/{storeCode}/stock")
+    @PreAuthorize("hasAnyRole('ADMIN','MANAGER','EMPLOYEE')")
+    public ResponseEntity<ResponseDto> adjustStoreStock(
+            @PathVariable @Pattern(regexp = StoreManagementConstants.SKU) String sku,
+            @PathVariable @Pattern(regexp = StoreManagementConstants.STORE_CODE) String storeCode,
+            @Validated @RequestBody StockAdjustmentDto adjustment) {
+        service.adjustStoreStock(sku, storeCode, adjustment.delta());
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(new ResponseDto(StoreManagementConstants.STATUS_200, StoreManagementConstants.STORE_STOCK_UPDATED));
+    }
+}
@@ -0,0 +1,66 @@
+package com.store.management.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+
+/**
+ * Sends read-only transactions to the replica pools and everything else to the primary.
+ * The lazy proxy only fetches a physical connection at the first statement, after the
+ * transaction's read-only flag is known.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "store.datasource.replicas", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties({DataSourceProperties.class, ReplicaDataSourceProperties.class})
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             ReplicaDataSourceProperties properties) {
+        var nodes = new ArrayList<ReplicaNode>();
+        for (int i = 0; i < properties.nodes().size(); i++) {
+            var replica = properties.nodes().get(i);
+            var pool = new HikariDataSource();
+            pool.setPoolName("store-replica-" + i);
+            pool.setJdbcUrl(replica.url());
+            pool.setUsername(replica.username());
+            pool.setPassword(replica.password());
+            pool.setMaximumPoolSize(properties.poolSize());
+            pool.setConnectionTimeout(properties.connectionTimeout().toMillis());
+            pool.setValidationTimeout(properties.validationTimeout().toMillis());
+            pool.setReadOnly(true);
+            pool.setInitializationFailTimeout(-1);
+            nodes.add(new ReplicaNode(pool.getPoolName(), pool));
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, nodes);
+    }
+
+    @Bean
+    public ReplicaHealthChecker replicaHealthChecker(ReplicaRoutingDataSource replicaRoutingDataSource,
+                                                     ReplicaDataSourceProperties properties) {
+        return new ReplicaHealthChecker(replicaRoutingDataSource, properties);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaRoutingDataSource replicaRoutingDataSource) {
+        var proxy = new LazyConnectionDataSourceProxy(primaryDataSource);
+        proxy.setReadOnlyDataSource(replicaRoutingDataSource);
+        return proxy;
+    }
+}
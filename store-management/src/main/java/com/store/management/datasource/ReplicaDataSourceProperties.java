@@ -0,0 +1,30 @@
+package com.store.management.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Replica pools use short {@code connection-timeout} and {@code validation-timeout} values (Hikari's
+ * floor is 250ms), so a dead replica delays a read by at most that long before it falls back to the
+ * primary, instead of Hikari's 30s default.
+ */
+@ConfigurationProperties(prefix = "store.datasource.replicas")
+public record ReplicaDataSourceProperties(boolean enabled,
+                                          List<Replica> nodes,
+                                          @DefaultValue("5") int poolSize,
+                                          @DefaultValue("5s") Duration healthCheckInterval,
+                                          @DefaultValue("500ms") Duration connectionTimeout,
+                                          @DefaultValue("250ms") Duration validationTimeout,
+                                          @DefaultValue("10s") Duration maxLag,
+                                          String lagQuery) {
+
+    public ReplicaDataSourceProperties {
+        nodes = nodes == null ? List.of() : List.copyOf(nodes);
+    }
+
+    public record Replica(String url, String username, String password) {
+    }
+}
@@ -0,0 +1,73 @@
+package com.store.management.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Periodically validates each replica and, when {@code store.datasource.replicas.lag-query} is set,
+ * takes it out of rotation while its reported lag (in seconds) exceeds {@code max-lag}.
+ */
+@Slf4j
+public class ReplicaHealthChecker {
+    private final ReplicaRoutingDataSource router;
+    private final ReplicaDataSourceProperties properties;
+
+    public ReplicaHealthChecker(ReplicaRoutingDataSource router, ReplicaDataSourceProperties properties) {
+        this.router = router;
+        this.properties = properties;
+    }
+
+    @Scheduled(fixedDelayString = "${store.datasource.replicas.health-check-interval:5s}")
+    public void checkReplicas() {
+        router.getReplicas().forEach(this::check);
+    }
+
+    void check(ReplicaNode replica) {
+        try (Connection connection = replica.getDataSource().getConnection()) {
+            if (!connection.isValid(validationTimeoutSeconds())) {
+                markUnhealthy(replica, "connection is not valid");
+                return;
+            }
+            var lag = readLag(connection);
+            if (lag.compareTo(properties.maxLag()) > 0) {
+                markUnhealthy(replica, "lag " + lag + " exceeds " + properties.maxLag());
+                return;
+            }
+            if (!replica.isHealthy()) {
+                log.info("Replica {} is back in rotation", replica.getName());
+            }
+            replica.markHealthy(lag);
+        } catch (SQLException e) {
+            markUnhealthy(replica, e.getMessage());
+        }
+    }
+
+    /**
+     * {@code isValid(0)} means "no timeout", so sub-second timeouts are rounded up rather than down.
+     */
+    int validationTimeoutSeconds() {
+        long millis = properties.validationTimeout().toMillis();
+        return (int) Math.max(1, Math.min(Integer.MAX_VALUE, (millis + 999) / 1000));
+    }
+
+    private Duration readLag(Connection connection) throws SQLException {
+        if (properties.lagQuery() == null || properties.lagQuery().isBlank()) {
+            return Duration.ZERO;
+        }
+        try (var statement = connection.createStatement();
+             var rs = statement.executeQuery(properties.lagQuery())) {
+            return rs.next() ? Duration.ofMillis(Math.round(rs.getDouble(1) * 1000)) : Duration.ZERO;
+        }
+    }
+
+    private void markUnhealthy(ReplicaNode replica, String reason) {
+        if (replica.isHealthy()) {
+            log.warn("Replica {} taken out of rotation: {}", replica.getName(), reason);
+        }
+        replica.markUnhealthy();
+    }
+}
@@ -0,0 +1,32 @@
+package com.store.management.datasource;
+
+import lombok.Getter;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * A replica pool plus the health state last observed by {@link ReplicaHealthChecker}.
+ * Nodes start out healthy so reads are routed before the first check has run.
+ */
+@Getter
+public class ReplicaNode {
+    private final String name;
+    private final DataSource dataSource;
+    private volatile boolean healthy = true;
+    private volatile Duration lag = Duration.ZERO;
+
+    public ReplicaNode(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    void markHealthy(Duration lag) {
+        this.lag = lag;
+        this.healthy = true;
+    }
+
+    void markUnhealthy() {
+        this.healthy = false;
+    }
+}
@@ -0,0 +1,24 @@
+package com.store.management.dto;
+
+import java.math.BigDecimal;
+
+public record ProductFilterDto(boolean active,
+                               BigDecimal minPrice,
+                               BigDecimal maxPrice,
+                               Integer minStock,
+                               Integer maxStock,
+                               String namePrefix) {
+
+    public static ProductFilterDto ofActive(boolean active) {
+        return new ProductFilterDto(active, null, null, null, null, null);
+    }
+
+    /**
+     * True when only the {@code active} flag is set, so the listing can use the plain
+     * {@code findAllByActive} query instead of building a specification.
+     */
+    public boolean isActiveOnly() {
+        return minPrice == null && maxPrice == null && minStock == null && maxStock == null
+                && (namePrefix == null || namePrefix.isBlank());
+    }
+}
@@ -0,0 +1,6 @@
+package com.store.management.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+public record StockAdjustmentDto(@NotNull Integer delta) {
+}
@@ -0,0 +1,4 @@
+package com.store.management.dto;
+
+public record StoreStockDto(String storeCode, Integer quantity) {
+}
@@ -0,0 +1,21 @@
+package com.store.management.dto;
+
+import java.time.OffsetDateTime;
+
+public record WriteStatusDto(String id,
+                             String sku,
+                             State state,
+                             String message,
+                             OffsetDateTime submittedAt,
+                             OffsetDateTime completedAt) {
+
+    public enum State {PENDING, APPLIED, FAILED}
+
+    public static WriteStatusDto pending(String id, String sku) {
+        return new WriteStatusDto(id, sku, State.PENDING, null, OffsetDateTime.now(), null);
+    }
+
+    public WriteStatusDto completed(State state, String message) {
+        return new WriteStatusDto(id, sku, state, message, submittedAt, OffsetDateTime.now());
+    }
+}
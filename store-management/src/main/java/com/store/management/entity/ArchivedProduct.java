@@ -0,0 +1,67 @@
+package com.store.management.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+import org.springframework.data.domain.Persistable;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+/**
+ * Long-inactive product moved out of {@code products} by the archive job. Rows are written once and
+ * only read back when a SKU is no longer found in the live table. The id is carried over from the
+ * live row, so {@link Persistable} tells Spring Data to insert rather than merge.
+ */
+@Entity
+@Immutable
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@Table(name = "products_archive",
+        indexes = @Index(name = "idx_products_archive_sku", columnList = "sku"))
+public class ArchivedProduct implements Persistable<Long> {
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private String sku;
+
+    @Column(name = "product_name", nullable = false)
+    private String productName;
+
+    @Column(name = "product_description")
+    private String productDescription;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal price;
+
+    @Column(nullable = false)
+    private Integer stock;
+
+    @Column(name = "created_at", nullable = false)
+    private OffsetDateTime createdAt;
+
+    @Column(name = "deactivated_at")
+    private OffsetDateTime deactivatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private OffsetDateTime archivedAt;
+
+    @Transient
+    @ToString.Exclude
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean fresh = true;
+
+    @Override
+    public boolean isNew() {
+        return fresh;
+    }
+
+    @PostLoad
+    void markLoaded() {
+        fresh = false;
+    }
+}
@@ -0,0 +1,54 @@
+package com.store.management.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+import org.springframework.data.domain.Persistable;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Per-store stock of an archived product, copied from {@code product_store_stock} in the same
+ * transaction that moves the product to {@code products_archive}. Like {@link ArchivedProduct},
+ * the id is carried over from the live row.
+ */
+@Entity
+@Immutable
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@Table(name = "product_store_stock_archive",
+        indexes = @Index(name = "idx_store_stock_archive_product", columnList = "product_id"))
+public class ArchivedStoreStock implements Persistable<Long> {
+    @Id
+    private Long id;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "store_code", nullable = false, length = 32)
+    private String storeCode;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    @Column(name = "archived_at", nullable = false)
+    private OffsetDateTime archivedAt;
+
+    @Transient
+    @ToString.Exclude
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean fresh = true;
+
+    @Override
+    public boolean isNew() {
+        return fresh;
+    }
+
+    @PostLoad
+    void markLoaded() {
+        fresh = false;
+    }
+}
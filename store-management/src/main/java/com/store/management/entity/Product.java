@@ -2,7 +2,12 @@ package com.store.management.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Formula;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
@@ -13,12 +18,20 @@ import java.time.OffsetDateTime;
 @ToString
 @AllArgsConstructor
 @NoArgsConstructor
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "product")
+@NaturalIdCache(region = "product-sku")
 @Table(name = "products",
         uniqueConstraints = {
                 @UniqueConstraint(name = "uk_product_sku", columnNames = "sku"),
-                @UniqueConstraint(name = "uk_product_name", columnNames = "product_name")})
+                @UniqueConstraint(name = "uk_product_name", columnNames = "product_name")},
+        indexes = {
+                @Index(name = "idx_product_active_created_at", columnList = "active, created_at"),
+                @Index(name = "idx_product_active_price", columnList = "active, price"),
+                @Index(name = "idx_product_active_name", columnList = "active, product_name"),
+                @Index(name = "idx_product_active_deactivated_at", columnList = "active, deactivated_at")})
 public class Product {
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "products_seq")
+    @SequenceGenerator(name = "products_seq", sequenceName = "products_seq", allocationSize = 50)
     @Id
     @Setter(AccessLevel.NONE)
     private Long id;
@@ -27,6 +40,7 @@ public class Product {
     @Setter(AccessLevel.NONE)
     private Long version;
 
+    @NaturalId(mutable = true)
     @Column(nullable = false)
     private String sku;
 
@@ -42,6 +56,14 @@ public class Product {
     @Column(nullable = false)
     private Integer stock;
 
+    /**
+     * Sum of per-store stock from {@code product_stock_total}; {@code null} until the product's first
+     * store movement. Once set it replaces {@link #stock}, which absolute stock writes may no longer change.
+     */
+    @Formula("(select t.total from product_stock_total t where t.product_id = id)")
+    @Setter(AccessLevel.NONE)
+    private Integer storeStockTotal;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private OffsetDateTime createdAt;
@@ -49,4 +71,32 @@ public class Product {
     @Column(name = "active", nullable = false)
     private Boolean active = Boolean.TRUE;
 
+    @Column(name = "deactivated_at")
+    private OffsetDateTime deactivatedAt;
+
+    public boolean isStockTrackedPerStore() {
+        return storeStockTotal != null;
+    }
+
+    /**
+     * Stock as clients see it: the per-store total once the product is tracked per store.
+     */
+    public Integer currentStock() {
+        return isStockTrackedPerStore() ? storeStockTotal : stock;
+    }
+
+    /**
+     * Stamps when a product became inactive (by soft delete or a full update) so the archive job can
+     * pick long-inactive products. Inactive products reject further writes, so it is not cleared again.
+     */
+    @PrePersist
+    @PreUpdate
+    void syncDeactivatedAt() {
+        if (Boolean.TRUE.equals(active)) {
+            deactivatedAt = null;
+        } else if (deactivatedAt == null) {
+            deactivatedAt = OffsetDateTime.now();
+        }
+    }
+
 }
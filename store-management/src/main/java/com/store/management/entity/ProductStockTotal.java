@@ -0,0 +1,50 @@
+package com.store.management.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * Running sum of a product's per-store stock; one row per product tracked per store. It lives outside
+ * {@code products} so a store movement shifts it with one in-place {@code UPDATE} and never locks or
+ * versions the product row. The id is the product's id, so {@link Persistable} tells Spring Data to
+ * insert rather than merge.
+ */
+@Entity
+@Getter
+@ToString
+@NoArgsConstructor
+@Table(name = "product_stock_total")
+public class ProductStockTotal implements Persistable<Long> {
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Column(nullable = false)
+    private Integer total;
+
+    @Transient
+    @ToString.Exclude
+    @Getter(AccessLevel.NONE)
+    private boolean fresh = true;
+
+    public ProductStockTotal(Long productId, Integer total) {
+        this.productId = productId;
+        this.total = total;
+    }
+
+    @Override
+    public Long getId() {
+        return productId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return fresh;
+    }
+
+    @PostLoad
+    void markLoaded() {
+        fresh = false;
+    }
+}
@@ -0,0 +1,46 @@
+package com.store.management.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Stock of one product at one store or warehouse. Each (product, store) row is its own
+ * partition of contention: store movements only lock and version this row. On a database
+ * with declarative partitioning the table can be list/hash partitioned by {@code store_code}.
+ */
+@Entity
+@Getter
+@Setter
+@ToString(exclude = "product")
+@NoArgsConstructor
+@Table(name = "product_store_stock",
+        uniqueConstraints = @UniqueConstraint(name = "uk_store_stock_product_store",
+                columnNames = {"product_id", "store_code"}),
+        indexes = @Index(name = "idx_store_stock_store", columnList = "store_code"))
+public class StoreStock {
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_store_stock_seq")
+    @SequenceGenerator(name = "product_store_stock_seq", sequenceName = "product_store_stock_seq", allocationSize = 50)
+    @Id
+    @Setter(AccessLevel.NONE)
+    private Long id;
+
+    @Version
+    @Setter(AccessLevel.NONE)
+    private Long version;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "product_id", nullable = false, foreignKey = @ForeignKey(name = "fk_store_stock_product"))
+    private Product product;
+
+    @Column(name = "store_code", nullable = false, length = 32)
+    private String storeCode;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    public StoreStock(Product product, String storeCode, Integer quantity) {
+        this.product = product;
+        this.storeCode = storeCode;
+        this.quantity = quantity;
+    }
+}
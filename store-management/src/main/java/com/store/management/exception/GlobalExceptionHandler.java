@@ -80,6 +80,26 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return new ResponseEntity<>(errorResponseDTO, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(InsufficientStockException.class)
+    public ResponseEntity<ErrorResponseDto> handleInsufficientStock(InsufficientStockException exception) {
+        ErrorResponseDto errorResponseDTO = new ErrorResponseDto(
+                HttpStatus.CONFLICT,
+                exception.getMessage(),
+                LocalDateTime.now()
+        );
+        return new ResponseEntity<>(errorResponseDTO, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(StockTrackedPerStoreException.class)
+    public ResponseEntity<ErrorResponseDto> handleStockTrackedPerStore(StockTrackedPerStoreException exception) {
+        ErrorResponseDto errorResponseDTO = new ErrorResponseDto(
+                HttpStatus.CONFLICT,
+                exception.getMessage(),
+                LocalDateTime.now()
+        );
+        return new ResponseEntity<>(errorResponseDTO, HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(DataIntegrityViolationException.class)
     public ResponseEntity<ErrorResponseDto> handleDiv(DataIntegrityViolationException ex) {
         ErrorResponseDto errorResponseDTO = new ErrorResponseDto(
@@ -102,5 +122,17 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return new ResponseEntity<>(errorResponseDTO, HttpStatus.CONFLICT);
     }
 
+    @ExceptionHandler(WriteQueueFullException.class)
+    public ResponseEntity<ErrorResponseDto> handleWriteQueueFull(WriteQueueFullException exception) {
+        ErrorResponseDto errorResponseDTO = new ErrorResponseDto(
+                HttpStatus.SERVICE_UNAVAILABLE,
+                exception.getMessage(),
+                LocalDateTime.now()
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponseDTO);
+    }
+
 }
 
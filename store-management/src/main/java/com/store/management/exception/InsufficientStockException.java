@@ -0,0 +1,8 @@
+package com.store.management.exception;
+
+public class InsufficientStockException extends RuntimeException {
+
+    public InsufficientStockException(String sku, String storeCode, int delta) {
+        super(String.format("Insufficient stock for SKU '%s' at store '%s' to apply %d", sku, storeCode, delta));
+    }
+}
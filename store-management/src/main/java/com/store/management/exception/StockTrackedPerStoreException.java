@@ -0,0 +1,9 @@
+package com.store.management.exception;
+
+public class StockTrackedPerStoreException extends RuntimeException {
+
+    public StockTrackedPerStoreException(String sku) {
+        super(String.format("Stock for SKU '%s' is tracked per store; adjust it with "
+                + "PATCH /api/products/%s/stores/{storeCode}/stock", sku, sku));
+    }
+}
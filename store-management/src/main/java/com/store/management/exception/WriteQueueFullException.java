@@ -0,0 +1,8 @@
+package com.store.management.exception;
+
+public class WriteQueueFullException extends RuntimeException {
+
+    public WriteQueueFullException(int capacity) {
+        super(String.format("Asynchronous write queue is full (%d pending writes), retry later", capacity));
+    }
+}
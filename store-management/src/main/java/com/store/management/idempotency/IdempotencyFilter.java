@@ -0,0 +1,185 @@
+package com.store.management.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.store.management.dto.ErrorResponseDto;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Replays the stored response for a repeated {@code Idempotency-Key} on product writes instead of
+ * running the request again. Keys are scoped to the principal, method and path; 5xx responses and
+ * exceptions are not stored, so those can be retried. The request body is hashed and kept with the
+ * entry, and reusing a key with a different body is rejected with 422 rather than replayed. Bodies
+ * larger than {@code store.idempotency.max-body-size} are rejected with 413 before they are buffered.
+ */
+public class IdempotencyFilter extends OncePerRequestFilter {
+    public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    public static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+    private static final Set<String> METHODS = Set.of("POST", "PUT", "PATCH");
+    private static final int MAX_KEY_LENGTH = 128;
+
+    private final IdempotencyStore store;
+    private final ObjectMapper objectMapper;
+
+    public IdempotencyFilter(IdempotencyStore store, ObjectMapper objectMapper) {
+        this.store = store;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !store.isEnabled()
+                || request.getHeader(IDEMPOTENCY_KEY) == null
+                || !METHODS.contains(request.getMethod())
+                || !request.getRequestURI().startsWith("/api/products");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        var idempotencyKey = request.getHeader(IDEMPOTENCY_KEY);
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpStatus.BAD_REQUEST,
+                    IDEMPOTENCY_KEY + " must be 1-" + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        var principal = authentication == null ? "" : authentication.getName();
+        var key = principal + ' ' + request.getMethod() + ' ' + request.getRequestURI() + ' ' + idempotencyKey;
+
+        long maxBody = store.maxBodyBytes();
+        var tooLarge = "Request body with an " + IDEMPOTENCY_KEY + " must not exceed " + maxBody + " bytes";
+        if (request.getContentLengthLong() > maxBody) {
+            writeError(response, HttpStatus.PAYLOAD_TOO_LARGE, tooLarge);
+            return;
+        }
+        var body = request.getInputStream().readNBytes((int) Math.min(maxBody + 1, Integer.MAX_VALUE));
+        if (body.length > maxBody) {
+            writeError(response, HttpStatus.PAYLOAD_TOO_LARGE, tooLarge);
+            return;
+        }
+        var requestHash = sha256(body);
+        var existing = store.begin(key, requestHash);
+        if (existing != null) {
+            if (!existing.matches(requestHash)) {
+                writeError(response, HttpStatus.UNPROCESSABLE_ENTITY,
+                        IDEMPOTENCY_KEY + " was already used with a different request body");
+            } else if (existing.isInProgress()) {
+                writeError(response, HttpStatus.CONFLICT,
+                        "A request with this " + IDEMPOTENCY_KEY + " is still being processed");
+            } else {
+                replay(response, existing);
+            }
+            return;
+        }
+
+        var wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            chain.doFilter(new CachedBodyRequest(request, body), wrapper);
+        } catch (IOException | ServletException | RuntimeException e) {
+            store.abandon(key);
+            throw e;
+        }
+        if (wrapper.getStatus() >= 500) {
+            store.abandon(key);
+        } else {
+            store.complete(key, new StoredResponse(requestHash, wrapper.getStatus(), wrapper.getContentType(),
+                    wrapper.getContentAsByteArray()));
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    private void replay(HttpServletResponse response, StoredResponse stored) throws IOException {
+        response.setStatus(stored.status());
+        response.setHeader(IDEMPOTENT_REPLAYED, "true");
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private static byte[] sha256(byte[] body) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(body);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is required by every JVM", e);
+        }
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new ErrorResponseDto(status, message, LocalDateTime.now()));
+    }
+
+    /**
+     * Hands the already-read body to the rest of the chain.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            var in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException("Body is already buffered");
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() throws UnsupportedEncodingException {
+            var encoding = getCharacterEncoding() == null ? StandardCharsets.UTF_8.name() : getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(), encoding));
+        }
+    }
+}
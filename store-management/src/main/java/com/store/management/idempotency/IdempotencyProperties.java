@@ -0,0 +1,14 @@
+package com.store.management.idempotency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "store.idempotency")
+public record IdempotencyProperties(@DefaultValue("true") boolean enabled,
+                                    @DefaultValue("24h") Duration ttl,
+                                    @DefaultValue("32MB") DataSize maxSize,
+                                    @DefaultValue("64KB") DataSize maxBodySize) {
+}
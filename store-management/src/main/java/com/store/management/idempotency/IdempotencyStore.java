@@ -0,0 +1,60 @@
+package com.store.management.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded, expiring map from idempotency key to the response it produced. Entries are weighed by
+ * their size in bytes so a few large bodies cannot push the store past {@code max-size}.
+ */
+@Component
+@EnableConfigurationProperties(IdempotencyProperties.class)
+public class IdempotencyStore {
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+
+    private final IdempotencyProperties properties;
+    private final Cache<String, StoredResponse> responses;
+
+    public IdempotencyStore(IdempotencyProperties properties) {
+        this.properties = properties;
+        this.responses = Caffeine.newBuilder()
+                .expireAfterWrite(properties.ttl())
+                .maximumWeight(properties.maxSize().toBytes())
+                .weigher((String key, StoredResponse value) ->
+                        ENTRY_OVERHEAD_BYTES + key.length() * 2 + value.requestHash().length + value.body().length)
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    /**
+     * Largest request body the filter buffers and hashes for a keyed request.
+     */
+    public long maxBodyBytes() {
+        return properties.maxBodySize().toBytes();
+    }
+
+    /**
+     * Claims {@code key} for a new request.
+     *
+     * @return {@code null} when the caller now owns the key, otherwise the stored or in-progress entry
+     */
+    public StoredResponse begin(String key, byte[] requestHash) {
+        return responses.asMap().putIfAbsent(key, StoredResponse.inProgress(requestHash));
+    }
+
+    public void complete(String key, StoredResponse response) {
+        responses.put(key, response);
+    }
+
+    /**
+     * Releases a claimed key without storing a response, so a retry executes again.
+     */
+    public void abandon(String key) {
+        responses.asMap().computeIfPresent(key, (k, stored) -> stored.isInProgress() ? null : stored);
+    }
+}
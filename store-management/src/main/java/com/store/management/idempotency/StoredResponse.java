@@ -0,0 +1,24 @@
+package com.store.management.idempotency;
+
+import java.security.MessageDigest;
+
+/**
+ * The parts of a completed response needed to replay it, plus the SHA-256 of the request body that
+ * produced it. An entry with status {@code 0} marks a key whose first request is still executing.
+ */
+public record StoredResponse(byte[] requestHash, int status, String contentType, byte[] body) {
+
+    private static final byte[] NO_BODY = new byte[0];
+
+    public static StoredResponse inProgress(byte[] requestHash) {
+        return new StoredResponse(requestHash, 0, null, NO_BODY);
+    }
+
+    public boolean isInProgress() {
+        return status == 0;
+    }
+
+    public boolean matches(byte[] otherRequestHash) {
+        return MessageDigest.isEqual(requestHash, otherRequestHash);
+    }
+}
@@ -0,0 +1,18 @@
+package com.store.management.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+/**
+ * Async appender that only ever drops TRACE/DEBUG events once the queue passes its
+ * discarding threshold. INFO and above are always kept, so the queue stays bounded
+ * without losing operational messages.
+ */
+public class LossyDebugAsyncAppender extends AsyncAppender {
+
+    @Override
+    protected boolean isDiscardable(ILoggingEvent event) {
+        return event.getLevel().toInt() <= Level.DEBUG_INT;
+    }
+}
@@ -0,0 +1,46 @@
+package com.store.management.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lets through one in {@code sampleRate} events of the configured logger (e.g. {@code org.hibernate.SQL})
+ * and denies the rest before the event is created. Other loggers are left untouched. Level probes such
+ * as {@code isDebugEnabled()} reach turbo filters with a {@code null} format; they are not counted
+ * and always pass, so a guarded call is sampled once rather than twice.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+    private final AtomicLong counter = new AtomicLong();
+    private String loggerName;
+    private long sampleRate = 100;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (!isStarted() || format == null || !loggerName.equals(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        return counter.getAndIncrement() % sampleRate == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    @Override
+    public void start() {
+        if (loggerName == null || sampleRate < 1) {
+            addError("loggerName must be set and sampleRate must be >= 1");
+            return;
+        }
+        super.start();
+    }
+
+    public void setLoggerName(String loggerName) {
+        this.loggerName = loggerName;
+    }
+
+    public void setSampleRate(long sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+}
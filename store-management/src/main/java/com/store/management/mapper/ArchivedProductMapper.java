@@ -0,0 +1,25 @@
+package com.store.management.mapper;
+
+import com.store.management.dto.ProductDto;
+import com.store.management.entity.ArchivedProduct;
+import com.store.management.entity.ArchivedStoreStock;
+import com.store.management.entity.Product;
+import com.store.management.entity.StoreStock;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.ReportingPolicy;
+
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface ArchivedProductMapper {
+
+    @Mapping(target = "stock", expression = "java(product.currentStock())")
+    @Mapping(target = "archivedAt", expression = "java(java.time.OffsetDateTime.now())")
+    ArchivedProduct toArchive(Product product);
+
+    @Mapping(target = "productId", source = "product.id")
+    @Mapping(target = "archivedAt", expression = "java(java.time.OffsetDateTime.now())")
+    ArchivedStoreStock toArchive(StoreStock storeStock);
+
+    @Mapping(target = "active", constant = "false")
+    ProductDto toDto(ArchivedProduct archivedProduct);
+}
@@ -15,5 +15,6 @@ public interface ProductMapper {
     @Mapping(target = "createdAt", ignore = true)
     void updateEntity(@MappingTarget Product target, ProductDto src);
 
+    @Mapping(target = "stock", expression = "java(product.currentStock())")
     ProductDto toDto(Product product);
 }
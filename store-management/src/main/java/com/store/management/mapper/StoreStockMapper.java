@@ -0,0 +1,12 @@
+package com.store.management.mapper;
+
+import com.store.management.dto.StoreStockDto;
+import com.store.management.entity.StoreStock;
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface StoreStockMapper {
+
+    StoreStockDto toDto(StoreStock storeStock);
+}
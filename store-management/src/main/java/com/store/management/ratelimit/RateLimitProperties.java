@@ -0,0 +1,41 @@
+package com.store.management.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "store.rate-limit")
+public record RateLimitProperties(@DefaultValue("true") boolean enabled,
+                                  @DefaultValue Limit defaultLimit,
+                                  Map<String, Limit> roles,
+                                  List<EndpointLimit> endpoints,
+                                  @DefaultValue Concurrency concurrency) {
+
+    public RateLimitProperties {
+        roles = roles == null ? Map.of() : Map.copyOf(roles);
+        endpoints = endpoints == null ? List.of() : List.copyOf(endpoints);
+    }
+
+    /**
+     * Burst of {@code capacity} requests, refilled at {@code refillPerSecond}. {@code default-limit}
+     * applies to principals without a configured role, so it is never left unset.
+     */
+    public record Limit(@DefaultValue("50") int capacity, @DefaultValue("20") double refillPerSecond) {
+    }
+
+    /**
+     * Extra per-principal limit for requests matching {@code method} and the path {@code pattern}.
+     */
+    public record EndpointLimit(String method, String pattern, int capacity, double refillPerSecond) {
+    }
+
+    public record Concurrency(@DefaultValue("50") int initialLimit,
+                              @DefaultValue("10") int minLimit,
+                              @DefaultValue("200") int maxLimit,
+                              @DefaultValue("250ms") Duration targetLatency,
+                              @DefaultValue("0.9") double backoffRatio) {
+    }
+}
@@ -0,0 +1,95 @@
+package com.store.management.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Holds the token buckets for every principal (sized by role) and for every principal/endpoint pair,
+ * plus the shared adaptive concurrency limit. Idle buckets expire so the maps stay bounded.
+ */
+@Component
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimiter {
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private final RateLimitProperties properties;
+    private final List<CompiledEndpoint> endpoints;
+    private final Cache<String, TokenBucket> buckets = Caffeine.newBuilder()
+            .expireAfterAccess(Duration.ofMinutes(10))
+            .maximumSize(100_000)
+            .build();
+    @Getter
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    public RateLimiter(RateLimitProperties properties) {
+        this.properties = properties;
+        this.endpoints = properties.endpoints().stream()
+                .map(e -> new CompiledEndpoint(e, PathPatternParser.defaultInstance.parse(e.pattern())))
+                .toList();
+        this.concurrencyLimiter = new AdaptiveConcurrencyLimiter(properties.concurrency());
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    /**
+     * @return {@code 0} when the request may proceed, otherwise the nanoseconds the caller should wait
+     */
+    public long tryAcquire(Authentication authentication, String method, String path, long nowNanos) {
+        var principal = authentication.getName();
+        var userLimit = limitFor(authentication);
+        long wait = buckets.get("user:" + principal,
+                k -> new TokenBucket(userLimit.capacity(), userLimit.refillPerSecond())).tryAcquire(nowNanos);
+        if (wait > 0) {
+            return wait;
+        }
+        var endpoint = match(method, path);
+        if (endpoint == null) {
+            return 0;
+        }
+        var limit = endpoint.limit();
+        return buckets.get("endpoint:" + principal + ":" + limit.method() + " " + limit.pattern(),
+                k -> new TokenBucket(limit.capacity(), limit.refillPerSecond())).tryAcquire(nowNanos);
+    }
+
+    private RateLimitProperties.Limit limitFor(Authentication authentication) {
+        RateLimitProperties.Limit best = null;
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            var name = authority.getAuthority();
+            var role = name.startsWith(ROLE_PREFIX) ? name.substring(ROLE_PREFIX.length()) : name;
+            var limit = properties.roles().get(role);
+            if (limit != null && (best == null || limit.refillPerSecond() > best.refillPerSecond())) {
+                best = limit;
+            }
+        }
+        return best != null ? best : properties.defaultLimit();
+    }
+
+    private CompiledEndpoint match(String method, String path) {
+        if (endpoints.isEmpty()) {
+            return null;
+        }
+        var container = PathContainer.parsePath(path);
+        for (var endpoint : endpoints) {
+            if (endpoint.limit().method().equalsIgnoreCase(method) && endpoint.pattern().matches(container)) {
+                return endpoint;
+            }
+        }
+        return null;
+    }
+
+    private record CompiledEndpoint(RateLimitProperties.EndpointLimit limit, PathPattern pattern) {
+    }
+}
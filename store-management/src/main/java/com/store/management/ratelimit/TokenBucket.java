@@ -0,0 +1,40 @@
+package com.store.management.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket kept as a single "theoretical arrival time" (GCRA): every accepted
+ * request pushes it forward by one emission interval, and a request is rejected when that
+ * would move it further ahead of now than the burst allows.
+ */
+public class TokenBucket {
+    private final long emissionIntervalNanos;
+    private final long burstNanos;
+    private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+
+    public TokenBucket(int capacity, double refillPerSecond) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("capacity must be >= 1 and refillPerSecond > 0");
+        }
+        this.emissionIntervalNanos = Math.max(1L, Math.round(1_000_000_000d / refillPerSecond));
+        this.burstNanos = emissionIntervalNanos * capacity;
+    }
+
+    /**
+     * @return {@code 0} when a token was taken, otherwise the nanoseconds until one is available
+     */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            long base = current == Long.MIN_VALUE ? nowNanos : Math.max(current, nowNanos);
+            long next = base + emissionIntervalNanos;
+            long ahead = next - nowNanos;
+            if (ahead > burstNanos) {
+                return ahead - burstNanos;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.store.management.repository;
+
+import com.store.management.entity.ArchivedProduct;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ArchivedProductRepository extends JpaRepository<ArchivedProduct, Long> {
+
+    Optional<ArchivedProduct> findFirstBySkuOrderByArchivedAtDesc(String sku);
+
+    /**
+     * Every archived version of the given SKUs; a SKU archived more than once has several rows.
+     */
+    List<ArchivedProduct> findAllBySkuIn(Collection<String> skus);
+}
@@ -0,0 +1,11 @@
+package com.store.management.repository;
+
+import com.store.management.entity.ArchivedStoreStock;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface ArchivedStoreStockRepository extends JpaRepository<ArchivedStoreStock, Long> {
+
+    List<ArchivedStoreStock> findAllByProductIdOrderByStoreCode(Long productId);
+}
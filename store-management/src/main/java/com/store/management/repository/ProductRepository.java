@@ -1,18 +1,45 @@
 package com.store.management.repository;
 
 import com.store.management.entity.Product;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Optional;
 
-public interface ProductRepository extends JpaRepository<Product, Long> {
-    Optional<Product> findBySku(String sku);
+public interface ProductRepository extends JpaRepository<Product, Long>, JpaSpecificationExecutor<Product>,
+        ProductRepositoryCustom {
 
     boolean existsByProductName(String productName);
 
     boolean existsBySku(String sku);
 
+    boolean existsBySkuAndActiveTrue(String sku);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Page<Product> findAllByActive(boolean active, Pageable pageable);
+
+    List<Product> findByActiveFalseAndDeactivatedAtBefore(OffsetDateTime cutoff, Pageable pageable);
+
+    /**
+     * Soft-deleted products still holding {@code sku} or {@code productName} in the unique indexes.
+     */
+    @Query("select p from Product p where p.active = false and (p.sku = :sku or p.productName = :productName)")
+    List<Product> findInactiveBySkuOrProductName(@Param("sku") String sku, @Param("productName") String productName);
+
+    /**
+     * {@link #findBySku} for write paths: a soft-deleted product is treated as gone, so edits, stock
+     * movements and a repeated delete get 404 instead of changing a row that is waiting to be archived.
+     */
+    default Optional<Product> findActiveBySku(String sku) {
+        return findBySku(sku).filter(product -> Boolean.TRUE.equals(product.getActive()));
+    }
 }
@@ -0,0 +1,35 @@
+package com.store.management.repository;
+
+import com.store.management.entity.Product;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ProductRepositoryCustom {
+
+    /**
+     * Loads by the {@code sku} natural id, so repeated lookups are served from the
+     * natural-id and entity second-level cache regions instead of the database.
+     */
+    Optional<Product> findBySku(String sku);
+
+    /**
+     * Bulk natural-id load: SKUs already in the second-level cache are resolved there, the rest are
+     * fetched with batched {@code IN} queries. Unknown SKUs are skipped.
+     */
+    List<Product> findAllBySkuIn(Collection<String> skus);
+
+    /**
+     * Re-reads {@code product} with {@code SELECT ... FOR UPDATE} and bumps its {@code @Version}, so a
+     * writer that read it earlier fails with an optimistic lock error instead of overwriting a change
+     * that does not touch the row itself.
+     */
+    void lockAndBumpVersion(Product product);
+
+    /**
+     * Drops {@code product} from the second-level cache now and again after commit. The cached entry
+     * carries formula values computed from other tables, which Hibernate does not invalidate itself.
+     */
+    void evictFromSecondLevelCache(Product product);
+}
@@ -0,0 +1,62 @@
+package com.store.management.repository;
+
+import com.store.management.entity.Product;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<Product> findBySku(String sku) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Product.class)
+                .loadOptional(sku);
+    }
+
+    @Override
+    public List<Product> findAllBySkuIn(Collection<String> skus) {
+        if (skus.isEmpty()) {
+            return List.of();
+        }
+        return entityManager.unwrap(Session.class)
+                .byMultipleNaturalId(Product.class)
+                .enableOrderedReturn(false)
+                .multiLoad(new ArrayList<>(skus))
+                .stream()
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public void lockAndBumpVersion(Product product) {
+        entityManager.refresh(product, LockModeType.PESSIMISTIC_FORCE_INCREMENT);
+    }
+
+    @Override
+    public void evictFromSecondLevelCache(Product product) {
+        var cache = entityManager.getEntityManagerFactory().getCache();
+        var id = product.getId();
+        cache.evict(Product.class, id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.evict(Product.class, id);
+                }
+            });
+        }
+    }
+}
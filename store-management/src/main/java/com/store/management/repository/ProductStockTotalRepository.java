@@ -0,0 +1,19 @@
+package com.store.management.repository;
+
+import com.store.management.entity.ProductStockTotal;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ProductStockTotalRepository extends JpaRepository<ProductStockTotal, Long> {
+
+    /**
+     * Shifts the total in place; the row lock is held only on this row, never on {@code products}.
+     *
+     * @return number of rows changed; {@code 0} when the product is not tracked per store yet
+     */
+    @Modifying
+    @Query("update ProductStockTotal t set t.total = t.total + :delta where t.productId = :productId")
+    int addToTotal(@Param("productId") Long productId, @Param("delta") int delta);
+}
@@ -0,0 +1,31 @@
+package com.store.management.repository;
+
+import com.store.management.entity.StoreStock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface StoreStockRepository extends JpaRepository<StoreStock, Long> {
+
+    List<StoreStock> findAllByProductIdOrderByStoreCode(Long productId);
+
+    List<StoreStock> findAllByProductIdIn(Collection<Long> productIds);
+
+    boolean existsByProductIdAndStoreCode(Long productId, String storeCode);
+
+    /**
+     * Applies {@code delta} in place, refusing to go below zero.
+     *
+     * @return number of rows changed; {@code 0} when the row is missing or stock is insufficient
+     */
+    @Modifying
+    @Query("""
+            update StoreStock s set s.quantity = s.quantity + :delta, s.version = s.version + 1
+            where s.product.id = :productId and s.storeCode = :storeCode and s.quantity + :delta >= 0""")
+    int adjustQuantity(@Param("productId") Long productId, @Param("storeCode") String storeCode,
+                       @Param("delta") int delta);
+}
@@ -0,0 +1,72 @@
+package com.store.management.repository.specification;
+
+import com.store.management.dto.ProductFilterDto;
+import com.store.management.entity.Product;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+
+/**
+ * Builds listing predicates from a {@link ProductFilterDto}. Predicates always lead with
+ * {@code active} so the composite indexes declared on {@link Product} can be used for the range part.
+ */
+public final class ProductSpecifications {
+    private ProductSpecifications() {
+    }
+
+    public static Specification<Product> fromFilter(ProductFilterDto filter) {
+        return hasActive(filter.active())
+                .and(priceAtLeast(filter.minPrice()))
+                .and(priceAtMost(filter.maxPrice()))
+                .and(stockAtLeast(filter.minStock()))
+                .and(stockAtMost(filter.maxStock()))
+                .and(nameStartsWith(filter.namePrefix()));
+    }
+
+    public static Specification<Product> hasActive(boolean active) {
+        return (root, query, cb) -> cb.equal(root.get("active"), active);
+    }
+
+    public static Specification<Product> priceAtLeast(BigDecimal min) {
+        return min == null ? null : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("price"), min);
+    }
+
+    public static Specification<Product> priceAtMost(BigDecimal max) {
+        return max == null ? null : (root, query, cb) -> cb.lessThanOrEqualTo(root.get("price"), max);
+    }
+
+    public static Specification<Product> stockAtLeast(Integer min) {
+        return min == null ? null : (root, query, cb) -> cb.greaterThanOrEqualTo(currentStock(root, cb), min);
+    }
+
+    public static Specification<Product> stockAtMost(Integer max) {
+        return max == null ? null : (root, query, cb) -> cb.lessThanOrEqualTo(currentStock(root, cb), max);
+    }
+
+    /**
+     * Same rule as {@link Product#currentStock()}: the per-store total wins once it exists. Being an
+     * expression, a stock range only narrows the scan that the {@code active} prefix already picked.
+     */
+    private static Expression<Integer> currentStock(Root<Product> root, CriteriaBuilder cb) {
+        return cb.coalesce(root.<Integer>get("storeStockTotal"), root.<Integer>get("stock"));
+    }
+
+    /**
+     * Prefix match only (no leading wildcard) so the lookup stays an index range scan on
+     * {@code idx_product_active_name}.
+     */
+    public static Specification<Product> nameStartsWith(String prefix) {
+        if (prefix == null || prefix.isBlank()) {
+            return null;
+        }
+        var pattern = escapeLike(prefix) + "%";
+        return (root, query, cb) -> cb.like(root.get("productName"), pattern, '\\');
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -1,7 +1,13 @@
 package com.store.management.security;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.store.management.idempotency.IdempotencyFilter;
+import com.store.management.idempotency.IdempotencyStore;
+import com.store.management.ratelimit.RateLimitFilter;
+import com.store.management.ratelimit.RateLimiter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -13,18 +19,24 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
 
 @Configuration
 @EnableMethodSecurity
 public class SecurityConfig {
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, RateLimiter rateLimiter,
+                                           IdempotencyStore idempotencyStore,
+                                           ObjectMapper objectMapper) throws Exception {
         http.headers(h -> h.frameOptions(f -> f.sameOrigin()))
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers("/h2-console/**", "/actuator/health").permitAll()
+                        .requestMatchers("/h2-console/**", "/actuator/health/**").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/actuator/**").hasRole("ADMIN")
                         .anyRequest().authenticated())
-                .httpBasic(Customizer.withDefaults());
+                .httpBasic(Customizer.withDefaults())
+                .addFilterAfter(new RateLimitFilter(rateLimiter, objectMapper), AuthorizationFilter.class)
+                .addFilterAfter(new IdempotencyFilter(idempotencyStore, objectMapper), RateLimitFilter.class);
         http.csrf(AbstractHttpConfigurer::disable);
 
         return http.build();
@@ -1,6 +1,7 @@
 package com.store.management.service;
 
 import com.store.management.dto.ProductDto;
+import com.store.management.dto.ProductFilterDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -17,7 +18,7 @@ public interface ProductService {
 
     ProductDto findBySku(String sku);
 
-    Page<ProductDto> getProducts(boolean active, Pageable pageable);
+    Page<ProductDto> getProducts(ProductFilterDto filter, Pageable pageable);
 
     void deleteProduct(String sku);
 
@@ -0,0 +1,11 @@
+package com.store.management.service;
+
+import com.store.management.dto.StoreStockDto;
+
+import java.util.List;
+
+public interface StoreStockService {
+    List<StoreStockDto> getStoreStock(String sku);
+
+    void adjustStoreStock(String sku, String storeCode, int delta);
+}
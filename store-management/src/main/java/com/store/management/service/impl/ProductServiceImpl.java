@@ -1,11 +1,16 @@
 package com.store.management.service.impl;
 
+import com.store.management.archive.ProductArchiver;
 import com.store.management.dto.ProductDto;
+import com.store.management.dto.ProductFilterDto;
 import com.store.management.exception.FieldConflictException;
 import com.store.management.exception.ProductAlreadyExistsException;
 import com.store.management.exception.ResourceNotFoundException;
+import com.store.management.exception.StockTrackedPerStoreException;
+import com.store.management.cache.ProductBatchLoader;
 import com.store.management.mapper.ProductMapper;
 import com.store.management.repository.ProductRepository;
+import com.store.management.repository.specification.ProductSpecifications;
 import com.store.management.service.ProductService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,23 +31,30 @@ import java.util.Map;
 public class ProductServiceImpl implements ProductService {
     private final ProductRepository productRepository;
     private final ProductMapper mapper;
+    private final ProductBatchLoader batchLoader;
+    private final ProductArchiver archiver;
 
 
     @Transactional
     @CacheEvict(value = "productBySku", key = "#productDto.sku()")
     public void createProduct(ProductDto productDto) {
         log.debug("createProduct start SKU={}", productDto.sku());
+        releaseSoftDeleted(productDto);
         assertNoDuplicates(productDto);
         productRepository.save(mapper.toEntity(productDto));
-        log.info("Product with SKU: " + productDto.sku() + " has been created");
+        log.info("Product with SKU: {} has been created", productDto.sku());
     }
 
     @Transactional
     @CacheEvict(value = "productBySku", key = "#sku")
     public void updateProduct(String sku, ProductDto productDto) {
         log.debug("updateProduct start SKU={}", sku);
-        var existingProduct = productRepository.findBySku(sku)
+        var existingProduct = productRepository.findActiveBySku(sku)
                 .orElseThrow(() -> new ResourceNotFoundException("Product", "sku", sku));
+        if (existingProduct.isStockTrackedPerStore() && productDto.stock() != null
+                && !productDto.stock().equals(existingProduct.currentStock())) {
+            throw new StockTrackedPerStoreException(sku);
+        }
 
         mapper.updateEntity(existingProduct, productDto);
         try {
@@ -58,7 +70,7 @@ public class ProductServiceImpl implements ProductService {
     @CacheEvict(value = "productBySku", key = "#sku")
     public void updateProductPrice(String sku, BigDecimal price) {
         log.debug("updateProductPrice start SKU={}", sku);
-        var existingProduct = productRepository.findBySku(sku)
+        var existingProduct = productRepository.findActiveBySku(sku)
                 .orElseThrow(() -> new ResourceNotFoundException("Product", "sku", sku));
         var old = existingProduct.getPrice();
         existingProduct.setPrice(price);
@@ -75,8 +87,11 @@ public class ProductServiceImpl implements ProductService {
     @CacheEvict(value = "productBySku", key = "#sku")
     public void updateProductStock(String sku, Integer stock) {
         log.debug("updateProductStock start SKU={}", sku);
-        var existingProduct = productRepository.findBySku(sku)
+        var existingProduct = productRepository.findActiveBySku(sku)
                 .orElseThrow(() -> new ResourceNotFoundException("Product", "sku", sku));
+        if (existingProduct.isStockTrackedPerStore()) {
+            throw new StockTrackedPerStoreException(sku);
+        }
         var old = existingProduct.getStock();
         existingProduct.setStock(stock);
         try {
@@ -88,24 +103,25 @@ public class ProductServiceImpl implements ProductService {
         }
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * With the loading {@code productBySku} cache, the cache loader answers both hits and misses
+     * (including the 404), so this body only runs when that cache is not in front of it.
+     */
     @Cacheable(value = "productBySku", key = "#sku")
     public ProductDto findBySku(String sku) {
         log.debug("findBySku start SKU={}", sku);
-        return productRepository.findBySku(sku)
-                .map(p -> {
-                    log.info("Product found sku={}", sku);
-                    return mapper.toDto(p);
-                })
+        return batchLoader.load(sku).join()
                 .orElseThrow(() -> new ResourceNotFoundException("Product", "sku", sku));
     }
 
     @Transactional(readOnly = true)
-    public Page<ProductDto> getProducts(boolean active, Pageable pageable) {
+    public Page<ProductDto> getProducts(ProductFilterDto filter, Pageable pageable) {
         log.debug("--- getProducts start ---");
-        var page = productRepository.findAllByActive(active, pageable)
-                .map(mapper::toDto);
-        log.info("Products found active={}: {}", active, page.getTotalElements());
+        var products = filter.isActiveOnly()
+                ? productRepository.findAllByActive(filter.active(), pageable)
+                : productRepository.findAll(ProductSpecifications.fromFilter(filter), pageable);
+        var page = products.map(mapper::toDto);
+        log.debug("Products found {}: {}", filter, page.getTotalElements());
         return page;
     }
 
@@ -113,18 +129,32 @@ public class ProductServiceImpl implements ProductService {
     @CacheEvict(value = "productBySku", key = "#sku")
     public void deleteProduct(String sku) {
         log.debug("deleteProduct start SKU={}", sku);
-        var existing = productRepository.findBySku(sku)
+        var existing = productRepository.findActiveBySku(sku)
                 .orElseThrow(() -> new ResourceNotFoundException("Product", "sku", sku));
 
+        existing.setActive(false);
         try {
-            productRepository.delete(existing);
-            log.info("Product deleted with SKU={}", sku);
+            productRepository.save(existing);
+            log.info("Product soft-deleted with SKU={}", sku);
         } catch (OptimisticLockingFailureException e) {
             throw new OptimisticLockingFailureException(
                     "Delete for product with SKU: " + sku + " failed. Resource was modified concurrently.", e);
         }
     }
 
+    /**
+     * A soft-deleted product keeps its SKU and name in the unique indexes until the archive job
+     * moves it. Archive it now instead, so the SKU or name can be reused immediately.
+     */
+    private void releaseSoftDeleted(ProductDto dto) {
+        var holders = productRepository.findInactiveBySkuOrProductName(dto.sku(), dto.productName());
+        if (!holders.isEmpty()) {
+            archiver.archive(holders);
+            log.info("Archived {} soft-deleted product(s) holding SKU={} or name={}",
+                    holders.size(), dto.sku(), dto.productName());
+        }
+    }
+
     private void assertNoDuplicates(ProductDto dto) {
         log.debug("assertNoDuplicates start");
         var skuTaken = productRepository.existsBySku(dto.sku());
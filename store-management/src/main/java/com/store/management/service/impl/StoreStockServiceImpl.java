@@ -0,0 +1,87 @@
+package com.store.management.service.impl;
+
+import com.store.management.constants.StoreManagementConstants;
+import com.store.management.dto.StoreStockDto;
+import com.store.management.entity.Product;
+import com.store.management.entity.ProductStockTotal;
+import com.store.management.entity.StoreStock;
+import com.store.management.exception.InsufficientStockException;
+import com.store.management.exception.ResourceNotFoundException;
+import com.store.management.mapper.StoreStockMapper;
+import com.store.management.repository.ProductRepository;
+import com.store.management.repository.ProductStockTotalRepository;
+import com.store.management.repository.StoreStockRepository;
+import com.store.management.service.StoreStockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StoreStockServiceImpl implements StoreStockService {
+    private final ProductRepository productRepository;
+    private final StoreStockRepository storeStockRepository;
+    private final ProductStockTotalRepository stockTotalRepository;
+    private final StoreStockMapper mapper;
+
+    @Transactional(readOnly = true)
+    public List<StoreStockDto> getStoreStock(String sku) {
+        log.debug("getStoreStock start SKU={}", sku);
+        var product = productRepository.findBySku(sku)
+                .orElseThrow(() -> new ResourceNotFoundException("Product", "sku", sku));
+        return storeStockRepository.findAllByProductIdOrderByStoreCode(product.getId()).stream()
+                .map(mapper::toDto)
+                .toList();
+    }
+
+    /**
+     * Moves stock at a single store. Only that store's row and the product's row in
+     * {@code product_stock_total} are updated, both in place; the product row is neither locked nor
+     * versioned, so movements at different stores do not queue behind product edits.
+     */
+    @Transactional
+    @CacheEvict(value = "productBySku", key = "#sku")
+    public void adjustStoreStock(String sku, String storeCode, int delta) {
+        log.debug("adjustStoreStock start SKU={} store={} delta={}", sku, storeCode, delta);
+        var product = productRepository.findActiveBySku(sku)
+                .orElseThrow(() -> new ResourceNotFoundException("Product", "sku", sku));
+        if (!stockTotalRepository.existsById(product.getId())) {
+            startTrackingPerStore(product);
+        }
+
+        if (storeStockRepository.adjustQuantity(product.getId(), storeCode, delta) == 0) {
+            if (delta < 0 || storeStockRepository.existsByProductIdAndStoreCode(product.getId(), storeCode)) {
+                throw new InsufficientStockException(sku, storeCode, delta);
+            }
+            storeStockRepository.save(new StoreStock(product, storeCode, delta));
+        }
+        stockTotalRepository.addToTotal(product.getId(), delta);
+        productRepository.evictFromSecondLevelCache(product);
+        log.info("Store stock adjusted for SKU={} store={} delta={}", sku, storeCode, delta);
+    }
+
+    /**
+     * First store movement of a product: the stock it had so far moves to the default store, and the
+     * total starts from it, so the total always equals the sum of the store rows. This one-time step
+     * locks the product and bumps its version; a concurrent absolute stock write that read the product
+     * before gets 409 instead of being silently ignored. Concurrent first movements queue on that lock.
+     */
+    private void startTrackingPerStore(Product product) {
+        productRepository.lockAndBumpVersion(product);
+        if (stockTotalRepository.existsById(product.getId())) {
+            return;
+        }
+        int stock = product.getStock();
+        if (stock > 0) {
+            storeStockRepository.save(new StoreStock(product, StoreManagementConstants.DEFAULT_STORE_CODE, stock));
+        }
+        stockTotalRepository.save(new ProductStockTotal(product.getId(), stock));
+        log.info("SKU={} is now tracked per store; {} units moved to store {}",
+                product.getSku(), stock, StoreManagementConstants.DEFAULT_STORE_CODE);
+    }
+}
@@ -0,0 +1,12 @@
+-- products.id used to be an IDENTITY column. It now comes from the pooled sequence products_seq
+-- (allocationSize 50), so Hibernate can batch inserts. Run this once against a database created
+-- before that change, before starting the new version. Otherwise the sequence starts at 1 and the
+-- first inserts collide with existing ids.
+--
+-- Hibernate's pooled optimizer hands out (value - 49)..value for each value it reads, so the
+-- sequence must restart at max(id) + 50 or higher. PostgreSQL equivalent:
+--   CREATE SEQUENCE IF NOT EXISTS products_seq INCREMENT BY 50;
+--   SELECT setval('products_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM products), false);
+
+CREATE SEQUENCE IF NOT EXISTS products_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE products_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM products);
@@ -0,0 +1,125 @@
+package com.store.management.archive;
+
+import com.store.management.entity.ArchivedProduct;
+import com.store.management.entity.ArchivedStoreStock;
+import com.store.management.entity.Product;
+import com.store.management.entity.StoreStock;
+import com.store.management.mapper.ArchivedProductMapperImpl;
+import com.store.management.repository.ArchivedProductRepository;
+import com.store.management.repository.ArchivedStoreStockRepository;
+import com.store.management.repository.ProductRepository;
+import com.store.management.repository.StoreStockRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@Import({ProductArchiver.class, ArchivedProductMapperImpl.class, ProductArchiverTest.Caches.class})
+public class ProductArchiverTest {
+
+    @TestConfiguration
+    static class Caches {
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager("productBySku");
+        }
+    }
+
+    @Autowired
+    private ProductArchiver archiver;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ArchivedProductRepository archivedProductRepository;
+
+    @Autowired
+    private StoreStockRepository storeStockRepository;
+
+    @Autowired
+    private ArchivedStoreStockRepository archivedStoreStockRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void archiveBatch_movesOnlyProductsInactiveBeforeCutoff() {
+        var now = OffsetDateTime.now();
+        var old = save("SKU-OLD", false, now.minusDays(40));
+        save("SKU-RECENT", false, now.minusDays(2));
+        save("SKU-LIVE", true, null);
+        storeStockRepository.save(new StoreStock(old, "STORE-A", 3));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(archiver.archiveBatch(now.minusDays(30), 10)).isEqualTo(1);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(productRepository.findAll()).extracting(Product::getSku)
+                .containsExactlyInAnyOrder("SKU-RECENT", "SKU-LIVE");
+        assertThat(storeStockRepository.findAllByProductIdOrderByStoreCode(old.getId())).isEmpty();
+        assertThat(archivedProductRepository.findFirstBySkuOrderByArchivedAtDesc("SKU-OLD"))
+                .get()
+                .extracting(ArchivedProduct::getId, ArchivedProduct::getProductName)
+                .containsExactly(old.getId(), "Name SKU-OLD");
+        assertThat(archivedStoreStockRepository.findAllByProductIdOrderByStoreCode(old.getId()))
+                .extracting(ArchivedStoreStock::getStoreCode, ArchivedStoreStock::getQuantity)
+                .containsExactly(tuple("STORE-A", 3));
+    }
+
+    @Test
+    void archive_freesSkuAndNameForReuseInSameTransaction() {
+        var deleted = save("SKU-REUSED", false, OffsetDateTime.now());
+        entityManager.flush();
+
+        archiver.archive(List.of(deleted));
+        save("SKU-REUSED", true, null);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(productRepository.findBySku("SKU-REUSED")).get()
+                .extracting(Product::getActive).isEqualTo(true);
+        assertThat(archivedProductRepository.findById(deleted.getId())).isPresent();
+    }
+
+    @Test
+    void archiveBatch_respectsBatchSize() {
+        var now = OffsetDateTime.now();
+        for (int i = 0; i < 3; i++) {
+            save("SKU-" + i, false, now.minusDays(60 + i));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(archiver.archiveBatch(now.minusDays(30), 2)).isEqualTo(2);
+        assertThat(archiver.archiveBatch(now.minusDays(30), 2)).isEqualTo(1);
+        assertThat(archiver.archiveBatch(now.minusDays(30), 2)).isZero();
+        assertThat(archivedProductRepository.count()).isEqualTo(3);
+    }
+
+    private Product save(String sku, boolean active, OffsetDateTime deactivatedAt) {
+        var product = new Product();
+        product.setSku(sku);
+        product.setProductName("Name " + sku);
+        product.setPrice(new BigDecimal("10.00"));
+        product.setStock(3);
+        product.setActive(active);
+        product.setDeactivatedAt(deactivatedAt);
+        return productRepository.save(product);
+    }
+}
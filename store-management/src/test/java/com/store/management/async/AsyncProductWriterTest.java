@@ -0,0 +1,197 @@
+package com.store.management.async;
+
+import com.store.management.dto.WriteStatusDto;
+import com.store.management.dto.WriteStatusDto.State;
+import com.store.management.entity.Product;
+import com.store.management.exception.ResourceNotFoundException;
+import com.store.management.exception.WriteQueueFullException;
+import com.store.management.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class AsyncProductWriterTest {
+
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager("productBySku");
+    private AsyncProductWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        when(productRepository.existsBySkuAndActiveTrue(anyString())).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        writer.stop();
+    }
+
+    @Test
+    void prefersAsync_parsesPreferHeader() {
+        assertThat(AsyncProductWriter.prefersAsync("respond-async")).isTrue();
+        assertThat(AsyncProductWriter.prefersAsync("return=minimal, Respond-Async; wait=5")).isTrue();
+        assertThat(AsyncProductWriter.prefersAsync("wait=5")).isFalse();
+        assertThat(AsyncProductWriter.prefersAsync(null)).isFalse();
+        writer = writer(10, Duration.ZERO);
+    }
+
+    @Test
+    void writesToSameSku_areCoalesced_andCommittedTogether() throws InterruptedException {
+        writer = writer(10, Duration.ofMillis(200));
+        var product = product("SKU-1");
+        when(productRepository.findAllBySkuIn(anyCollection())).thenReturn(List.of(product));
+        cacheManager.getCache("productBySku").put("SKU-1", "stale");
+
+        var first = writer.submitPrice("SKU-1", new BigDecimal("11.00"));
+        var second = writer.submitStock("SKU-1", 7);
+        var third = writer.submitPrice("SKU-1", new BigDecimal("12.00"));
+        writer.stop();
+
+        verify(productRepository, times(1)).findAllBySkuIn(List.of("SKU-1"));
+        assertThat(product.getPrice()).isEqualByComparingTo("12.00");
+        assertThat(product.getStock()).isEqualTo(7);
+        assertThat(List.of(first, second, third))
+                .allSatisfy(ticket -> assertThat(state(ticket)).isEqualTo(State.APPLIED));
+        assertThat(cacheManager.getCache("productBySku").get("SKU-1")).isNull();
+    }
+
+    @Test
+    void unknownSku_isRejectedBeforeAccepting() {
+        writer = writer(10, Duration.ofMillis(200));
+        when(productRepository.existsBySkuAndActiveTrue("SKU-404")).thenReturn(false);
+
+        assertThatThrownBy(() -> writer.submitStock("SKU-404", 3))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThat(writer.submitStock("SKU-1", 3).state()).isEqualTo(State.PENDING);
+    }
+
+    @Test
+    void skuRemovedBeforeFlush_failsOnlyItsTicket() throws InterruptedException {
+        writer = writer(10, Duration.ofMillis(200));
+        when(productRepository.findAllBySkuIn(anyCollection())).thenReturn(List.of(product("SKU-1")));
+
+        var known = writer.submitStock("SKU-1", 3);
+        var unknown = writer.submitStock("SKU-404", 3);
+        writer.stop();
+
+        assertThat(state(known)).isEqualTo(State.APPLIED);
+        assertThat(writer.status(unknown.id())).get()
+                .extracting(WriteStatusDto::state, WriteStatusDto::message)
+                .containsExactly(State.FAILED, "Product not found with the given input data sku : 'SKU-404'");
+    }
+
+    @Test
+    void skuSoftDeletedBeforeFlush_failsItsTicket() throws InterruptedException {
+        writer = writer(10, Duration.ofMillis(200));
+        var deleted = product("SKU-1");
+        deleted.setActive(false);
+        when(productRepository.findAllBySkuIn(anyCollection())).thenReturn(List.of(deleted));
+
+        var ticket = writer.submitPrice("SKU-1", new BigDecimal("12.00"));
+        writer.stop();
+
+        assertThat(state(ticket)).isEqualTo(State.FAILED);
+        assertThat(deleted.getPrice()).isEqualByComparingTo("10.00");
+    }
+
+    @Test
+    void statuses_areBoundedByMaxStatuses() throws InterruptedException {
+        writer = writer(100, Duration.ofMillis(200), 5);
+        var tickets = new ArrayList<WriteStatusDto>();
+        for (int i = 0; i < 50; i++) {
+            tickets.add(writer.submitPrice("SKU-" + i, new BigDecimal("1.00")));
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (retained(tickets) > 5 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(retained(tickets)).isLessThanOrEqualTo(5);
+    }
+
+    @Test
+    void failedGroup_isRetriedOneSkuAtATime() throws InterruptedException {
+        writer = writer(10, Duration.ofMillis(200));
+        when(productRepository.findAllBySkuIn(anyCollection()))
+                .thenThrow(new OptimisticLockingFailureException("conflict"))
+                .thenReturn(List.of(product("SKU-1")))
+                .thenThrow(new OptimisticLockingFailureException("still conflicting"));
+
+        var first = writer.submitStock("SKU-1", 1);
+        var second = writer.submitStock("SKU-2", 2);
+        writer.stop();
+
+        verify(productRepository, times(3)).findAllBySkuIn(anyCollection());
+        assertThat(state(first)).isEqualTo(State.APPLIED);
+        assertThat(state(second)).isEqualTo(State.FAILED);
+    }
+
+    @Test
+    void submit_rejectsWhenQueueIsFull() {
+        writer = writer(1, Duration.ofSeconds(5));
+
+        writer.submitStock("SKU-1", 1);
+
+        assertThatThrownBy(() -> writer.submitStock("SKU-2", 1)).isInstanceOf(WriteQueueFullException.class);
+    }
+
+    @Test
+    void stockWrite_toProductTrackedPerStore_fails() throws InterruptedException {
+        writer = writer(10, Duration.ofMillis(200));
+        var tracked = product("SKU-1");
+        ReflectionTestUtils.setField(tracked, "storeStockTotal", 9);
+        when(productRepository.findAllBySkuIn(anyCollection())).thenReturn(List.of(tracked));
+
+        var ticket = writer.submitStock("SKU-1", 3);
+        writer.stop();
+
+        assertThat(writer.status(ticket.id())).get()
+                .extracting(WriteStatusDto::state).isEqualTo(State.FAILED);
+        assertThat(tracked.getStock()).isEqualTo(1);
+    }
+
+    private long retained(List<WriteStatusDto> tickets) {
+        return tickets.stream().filter(ticket -> writer.status(ticket.id()).isPresent()).count();
+    }
+
+    private State state(WriteStatusDto ticket) {
+        return writer.status(ticket.id()).orElseThrow().state();
+    }
+
+    private AsyncProductWriter writer(int capacity, Duration linger) {
+        return writer(capacity, linger, 1000);
+    }
+
+    private AsyncProductWriter writer(int capacity, Duration linger, long maxStatuses) {
+        var asyncWriter = new AsyncProductWriter(
+                new AsyncWriteProperties(true, capacity, 100, linger, Duration.ofMinutes(1), maxStatuses),
+                productRepository, cacheManager, mock(PlatformTransactionManager.class));
+        asyncWriter.start();
+        return asyncWriter;
+    }
+
+    private static Product product(String sku) {
+        var product = new Product();
+        product.setSku(sku);
+        product.setProductName("Name " + sku);
+        product.setPrice(new BigDecimal("10.00"));
+        product.setStock(1);
+        return product;
+    }
+}
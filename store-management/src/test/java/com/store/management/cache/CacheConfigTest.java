@@ -0,0 +1,64 @@
+package com.store.management.cache;
+
+import com.store.management.dto.ProductDto;
+import com.store.management.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+public class CacheConfigTest {
+
+    private final ProductBatchLoader batchLoader = mock(ProductBatchLoader.class);
+    private final CacheConfig config = new CacheConfig();
+    private final ExecutorService executor = config.productCacheExecutor();
+    private final ProductCacheProperties properties = new ProductCacheProperties(DataSize.ofMegabytes(1),
+            Duration.ofMinutes(5), Duration.ofMinutes(30), 0.25);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void unknownSku_failsTheLoad_insteadOfFallingThroughToTheCachedMethod() {
+        when(batchLoader.load("SKU-404")).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+        var cache = config.cacheManager(properties, batchLoader, executor).getCache("productBySku");
+
+        assertThatThrownBy(() -> cache.get("SKU-404"))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(batchLoader, times(1)).load("SKU-404");
+    }
+
+    @Test
+    void pendingLoad_doesNotBlockOtherKeys_andCompletesWhenTheBatchDoes() throws Exception {
+        var pending = new CompletableFuture<Optional<ProductDto>>();
+        when(batchLoader.load("SKU-1")).thenReturn(pending);
+        when(batchLoader.load("SKU-2")).thenReturn(CompletableFuture.completedFuture(Optional.of(product("SKU-2"))));
+        var cache = config.cacheManager(properties, batchLoader, executor).getCache("productBySku");
+
+        var first = CompletableFuture.supplyAsync(() -> cache.get("SKU-1"));
+        verify(batchLoader, timeout(1000)).load("SKU-1");
+
+        assertThat(cache.get("SKU-2").get()).isEqualTo(product("SKU-2"));
+        assertThat(first).isNotDone();
+
+        pending.complete(Optional.of(product("SKU-1")));
+        assertThat(first.get(1, TimeUnit.SECONDS).get()).isEqualTo(product("SKU-1"));
+        verify(batchLoader, times(1)).load("SKU-1");
+    }
+
+    private static ProductDto product(String sku) {
+        return new ProductDto(sku, "Product", null, BigDecimal.ONE, 1, null, true);
+    }
+}
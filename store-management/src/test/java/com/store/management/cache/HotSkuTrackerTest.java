@@ -0,0 +1,73 @@
+package com.store.management.cache;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HotSkuTrackerTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void topSkus_orderedByAccessFrequency() {
+        var tracker = tracker(10, 100);
+        hit(tracker, "SKU-1", 2);
+        hit(tracker, "SKU-2", 5);
+        hit(tracker, "SKU-3", 1);
+
+        assertThat(tracker.topSkus(2)).containsExactly("SKU-2", "SKU-1");
+    }
+
+    @Test
+    void persist_thenLoad_roundTripsHottestFirst() {
+        var tracker = tracker(2, 100);
+        hit(tracker, "SKU-1", 1);
+        hit(tracker, "SKU-2", 3);
+        hit(tracker, "SKU-3", 2);
+
+        tracker.persist();
+
+        assertThat(tracker(2, 100).load()).containsExactly("SKU-2", "SKU-3");
+    }
+
+    @Test
+    void persist_decaysCounts_andDropsColdSkus() {
+        var tracker = tracker(10, 100);
+        hit(tracker, "SKU-1", 1);
+        hit(tracker, "SKU-2", 4);
+
+        tracker.persist();
+
+        assertThat(tracker.topSkus(10)).containsExactly("SKU-2");
+    }
+
+    @Test
+    void record_ignoresNewSkus_onceTrackingLimitReached() {
+        var tracker = tracker(10, 1);
+        hit(tracker, "SKU-1", 1);
+        hit(tracker, "SKU-2", 3);
+
+        assertThat(tracker.topSkus(10)).containsExactly("SKU-1");
+    }
+
+    @Test
+    void load_missingFile_returnsEmpty() {
+        assertThat(tracker(10, 100).load()).isEmpty();
+    }
+
+    private HotSkuTracker tracker(int topSkus, int maxTracked) {
+        return new HotSkuTracker(new CacheWarmupProperties(true, dir.resolve("hot-skus.txt"), topSkus, maxTracked,
+                Duration.ofMinutes(5), 1, 10));
+    }
+
+    private static void hit(HotSkuTracker tracker, String sku, int times) {
+        for (int i = 0; i < times; i++) {
+            tracker.record(sku);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.store.management.cache;
+
+import com.store.management.entity.ArchivedProduct;
+import com.store.management.entity.Product;
+import com.store.management.mapper.ArchivedProductMapper;
+import com.store.management.mapper.ProductMapper;
+import com.store.management.repository.ArchivedProductRepository;
+import com.store.management.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class ProductBatchLoaderTest {
+
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final ArchivedProductRepository archivedProductRepository = mock(ArchivedProductRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private ProductBatchLoader loader;
+
+    @AfterEach
+    void tearDown() {
+        loader.stop();
+    }
+
+    @Test
+    void concurrentMisses_shareOneQuery_andDuplicatesShareOneResult() {
+        loader = loader(true, Duration.ofMillis(100), 10);
+        when(productRepository.findAllBySkuIn(anyCollection()))
+                .thenReturn(List.of(product("SKU-1"), product("SKU-2")));
+        when(archivedProductRepository.findAllBySkuIn(anyCollection())).thenReturn(List.of());
+
+        var first = loader.load("SKU-1");
+        var second = loader.load("SKU-2");
+        var duplicate = loader.load("SKU-1");
+        var missing = loader.load("SKU-404");
+
+        assertThat(first.join()).get().extracting("sku").isEqualTo("SKU-1");
+        assertThat(second.join()).get().extracting("sku").isEqualTo("SKU-2");
+        assertThat(duplicate.join()).isEqualTo(first.join());
+        assertThat(missing.join()).isEmpty();
+        verify(productRepository, times(1)).findAllBySkuIn(argThat((Collection<String> skus) ->
+                skus.size() == 3 && skus.containsAll(List.of("SKU-1", "SKU-2", "SKU-404"))));
+        verify(archivedProductRepository).findAllBySkuIn(List.of("SKU-404"));
+    }
+
+    @Test
+    void batchClosesEarly_whenMaxBatchSizeReached() {
+        loader = loader(true, Duration.ofMillis(100), 2);
+        when(productRepository.findAllBySkuIn(anyCollection())).thenReturn(List.of());
+
+        var futures = List.of(loader.load("SKU-1"), loader.load("SKU-2"), loader.load("SKU-3"));
+        futures.forEach(f -> f.join());
+
+        verify(productRepository, times(2)).findAllBySkuIn(anyCollection());
+    }
+
+    @Test
+    void missingSkus_fallThroughToArchive_inOneQuery_latestVersionWins() {
+        loader = loader(true, Duration.ofMillis(50), 10);
+        var now = OffsetDateTime.now();
+        when(productRepository.findAllBySkuIn(anyCollection())).thenReturn(List.of());
+        when(archivedProductRepository.findAllBySkuIn(anyCollection())).thenReturn(List.of(
+                archived("SKU-OLD", "Older", now.minusDays(2)),
+                archived("SKU-OLD", "Old", now.minusDays(1)),
+                archived("SKU-GONE", "Gone", now)));
+
+        var old = loader.load("SKU-OLD");
+        var gone = loader.load("SKU-GONE");
+
+        assertThat(old.join()).get().extracting("productName", "active").containsExactly("Old", false);
+        assertThat(gone.join()).get().extracting("sku").isEqualTo("SKU-GONE");
+        verify(archivedProductRepository, times(1)).findAllBySkuIn(anyCollection());
+        verify(archivedProductRepository, never()).findFirstBySkuOrderByArchivedAtDesc(anyString());
+    }
+
+    @Test
+    void failedBatch_failsEveryCaller_andNextLoadRetries() {
+        loader = loader(true, Duration.ofMillis(1), 10);
+        when(productRepository.findAllBySkuIn(anyCollection()))
+                .thenThrow(new DataAccessResourceFailureException("down"))
+                .thenReturn(List.of(product("SKU-1")));
+
+        assertThatThrownBy(() -> loader.load("SKU-1").join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(DataAccessResourceFailureException.class);
+        assertThat(loader.load("SKU-1").join()).isPresent();
+    }
+
+    @Test
+    void failedBatch_withError_stillFailsCallers() {
+        loader = loader(true, Duration.ofMillis(1), 10);
+        when(productRepository.findAllBySkuIn(anyCollection())).thenThrow(new LinkageError("boom"));
+
+        assertThatThrownBy(() -> loader.load("SKU-1").join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(LinkageError.class);
+    }
+
+    @Test
+    void slowBatch_timesOutCaller() {
+        loader = loader(true, Duration.ofMillis(1), 10, Duration.ofMillis(50));
+        when(productRepository.findAllBySkuIn(anyCollection())).thenAnswer(invocation -> {
+            Thread.sleep(500);
+            return List.of();
+        });
+
+        assertThatThrownBy(() -> loader.load("SKU-1").join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+    }
+
+    @Test
+    void stop_failsQueuedLookups_andRejectsNewOnes() {
+        loader = loader(true, Duration.ofSeconds(10), 10, Duration.ofSeconds(30));
+
+        var queued = loader.load("SKU-1");
+        loader.stop();
+
+        assertThatThrownBy(queued::join).hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> loader.load("SKU-2").join()).hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void disabled_resolvesOnCallerThread() {
+        loader = loader(false, Duration.ofMillis(100), 10);
+        when(productRepository.findAllBySkuIn(List.of("SKU-1"))).thenReturn(List.of(product("SKU-1")));
+
+        var future = loader.load("SKU-1");
+
+        assertThat(future).isDone();
+        assertThat(future.join()).isPresent();
+    }
+
+    @Test
+    void lookups_runInReadWriteTransaction_soReplicaRoutingSendsThemToPrimary() {
+        loader = loader(false, Duration.ofMillis(1), 10);
+        when(productRepository.findAllBySkuIn(anyCollection())).thenReturn(List.of());
+
+        loader.load("SKU-1").join();
+
+        verify(transactionManager).getTransaction(argThat(definition -> !definition.isReadOnly()));
+    }
+
+    private ProductBatchLoader loader(boolean enabled, Duration window, int maxBatchSize) {
+        return loader(enabled, window, maxBatchSize, Duration.ofSeconds(5));
+    }
+
+    private ProductBatchLoader loader(boolean enabled, Duration window, int maxBatchSize, Duration timeout) {
+        var batchLoader = new ProductBatchLoader(new BatchLoaderProperties(enabled, window, maxBatchSize, 2, timeout),
+                productRepository, archivedProductRepository, Mappers.getMapper(ProductMapper.class),
+                Mappers.getMapper(ArchivedProductMapper.class), transactionManager);
+        batchLoader.start();
+        return batchLoader;
+    }
+
+    private static ArchivedProduct archived(String sku, String name, OffsetDateTime archivedAt) {
+        var archived = new ArchivedProduct();
+        archived.setSku(sku);
+        archived.setProductName(name);
+        archived.setArchivedAt(archivedAt);
+        return archived;
+    }
+
+    private static Product product(String sku) {
+        var product = new Product();
+        product.setSku(sku);
+        product.setProductName("Name " + sku);
+        product.setPrice(new BigDecimal("10.00"));
+        product.setStock(1);
+        return product;
+    }
+}
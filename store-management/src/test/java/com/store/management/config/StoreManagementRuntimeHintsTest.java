@@ -0,0 +1,69 @@
+package com.store.management.config;
+
+import com.store.management.cache.ProductCacheEndpoint;
+import com.store.management.dto.ErrorResponseDto;
+import com.store.management.dto.ProductDto;
+import com.store.management.dto.ResponseDto;
+import com.store.management.dto.WriteStatusDto;
+import com.store.management.dto.groups.OnCreateProduct;
+import com.store.management.dto.groups.OnPriceUpdate;
+import com.store.management.dto.groups.OnStockUpdate;
+import com.store.management.dto.groups.OnUpdateProduct;
+import com.store.management.entity.Product;
+import com.store.management.logging.LossyDebugAsyncAppender;
+import com.store.management.logging.SamplingTurboFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StoreManagementRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @BeforeEach
+    void setUp() {
+        new StoreManagementRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void dtos_areRegisteredForBinding() {
+        for (Class<?> dto : new Class<?>[]{ProductDto.class, ResponseDto.class, ErrorResponseDto.class,
+                WriteStatusDto.class, ProductCacheEndpoint.ProductCacheStatus.class}) {
+            assertThat(RuntimeHintsPredicates.reflection().onType(dto)
+                    .withMemberCategories(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(hints);
+        }
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(ProductDto.class, "sku")).accepts(hints);
+    }
+
+    @Test
+    void validationGroups_entityAndMappers_areRegistered() {
+        for (Class<?> group : new Class<?>[]{OnCreateProduct.class, OnUpdateProduct.class,
+                OnPriceUpdate.class, OnStockUpdate.class}) {
+            assertThat(RuntimeHintsPredicates.reflection().onType(group)).accepts(hints);
+        }
+        assertThat(RuntimeHintsPredicates.reflection().onType(Product.class)
+                .withMemberCategories(MemberCategory.values())).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of("com.store.management.mapper.ProductMapperImpl"))
+                .withMemberCategories(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(hints);
+    }
+
+    @Test
+    void logbackExtensions_areInstantiable() {
+        for (Class<?> type : new Class<?>[]{SamplingTurboFilter.class, LossyDebugAsyncAppender.class}) {
+            assertThat(RuntimeHintsPredicates.reflection().onType(type)
+                    .withMemberCategories(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                            MemberCategory.INVOKE_PUBLIC_METHODS)).accepts(hints);
+        }
+    }
+
+    @Test
+    void jcacheConfiguration_isIncludedAsResource() {
+        assertThat(RuntimeHintsPredicates.resource().forResource("hibernate-jcache.conf")).accepts(hints);
+    }
+}
@@ -0,0 +1,99 @@
+package com.store.management.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.store.management.dto.ProductDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WebConfigTest {
+
+    private final WebConfig config = new WebConfig();
+    private final ObjectMapper json = new Jackson2ObjectMapperBuilder().build();
+    private final ObjectMapper cbor = config.cborHttpMessageConverter(new Jackson2ObjectMapperBuilder()).getObjectMapper();
+    private final ObjectMapper smile = config.smileHttpMessageConverter(new Jackson2ObjectMapperBuilder()).getObjectMapper();
+
+    @Test
+    void binaryFormats_roundTripProductDto() throws Exception {
+        var dto = product(1);
+
+        assertThat(cbor.readValue(cbor.writeValueAsBytes(dto), ProductDto.class)).isEqualTo(dto);
+        assertThat(smile.readValue(smile.writeValueAsBytes(dto), ProductDto.class)).isEqualTo(dto);
+    }
+
+    @Test
+    void binaryFormats_areSmallerThanJson_forListings() throws Exception {
+        var page = new ArrayList<ProductDto>();
+        for (int i = 0; i < 50; i++) {
+            page.add(product(i));
+        }
+
+        int jsonBytes = json.writeValueAsBytes(page).length;
+        assertThat(cbor.writeValueAsBytes(page).length).isLessThan(jsonBytes);
+        assertThat(smile.writeValueAsBytes(page).length).isLessThan(jsonBytes);
+    }
+
+    @Test
+    void isoOffsetDateTimeSerializer_matchesJacksonDefault() throws Exception {
+        var defaults = new Jackson2ObjectMapperBuilder()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        var customized = new Jackson2ObjectMapperBuilder()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        config.offsetDateTimeSerializerCustomizer().customize(customized);
+        ObjectMapper expected = defaults.build();
+        ObjectMapper actual = customized.build();
+
+        var values = new ArrayList<>(List.of(
+                OffsetDateTime.parse("2025-10-15T10:00:00Z"),
+                OffsetDateTime.parse("2025-10-15T10:00:00.100Z"),
+                OffsetDateTime.parse("0001-01-01T00:00:00.000000001-18:00"),
+                OffsetDateTime.parse("9999-12-31T23:59:59.999999999+14:00"),
+                OffsetDateTime.parse("+10000-01-01T00:00:00Z"),
+                OffsetDateTime.of(LocalDateTime.of(2025, 1, 1, 0, 0), ZoneOffset.ofHoursMinutesSeconds(5, 30, 15))));
+        var random = new Random(42);
+        for (int i = 0; i < 1000; i++) {
+            values.add(OffsetDateTime.of(
+                    LocalDateTime.of(random.nextInt(10000), 1 + random.nextInt(12), 1 + random.nextInt(28),
+                            random.nextInt(24), random.nextInt(60), random.nextInt(60),
+                            random.nextBoolean() ? random.nextInt(1_000_000) * 1000 : random.nextInt(1_000_000_000)),
+                    ZoneOffset.ofTotalSeconds((random.nextInt(18 * 4 * 2 + 1) - 18 * 4) * 15 * 60)));
+        }
+
+        for (var value : values) {
+            assertThat(actual.writeValueAsString(value)).isEqualTo(expected.writeValueAsString(value));
+        }
+        assertThat(actual.writeValueAsString(product(1))).isEqualTo(expected.writeValueAsString(product(1)));
+        assertThat(cbor.readValue(cbor.writeValueAsBytes(product(1)), ProductDto.class)).isEqualTo(product(1));
+    }
+
+    @Test
+    void isoOffsetDateTimeSerializer_honoursExplicitTimeZone() throws Exception {
+        var defaults = new Jackson2ObjectMapperBuilder()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .timeZone("Europe/Bucharest");
+        var customized = new Jackson2ObjectMapperBuilder()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .timeZone("Europe/Bucharest");
+        config.offsetDateTimeSerializerCustomizer().customize(customized);
+        var value = OffsetDateTime.parse("2025-10-15T10:00:00Z");
+
+        assertThat(customized.build().writeValueAsString(value))
+                .isEqualTo(defaults.build().writeValueAsString(value))
+                .isEqualTo("\"2025-10-15T13:00:00+03:00\"");
+    }
+
+    private static ProductDto product(int i) {
+        return new ProductDto("SKU-" + i, "Product " + i, "Description of product number " + i,
+                new BigDecimal("19.99"), i, OffsetDateTime.parse("2025-10-15T10:00:00Z"), true);
+    }
+}
@@ -0,0 +1,123 @@
+package com.store.management.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ReplicaRoutingDataSourceTest {
+
+    private ReplicaNode replica;
+    private ReplicaRoutingDataSource router;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate readTx;
+    private TransactionTemplate writeTx;
+    private ReplicaHealthChecker healthChecker;
+
+    @BeforeEach
+    void setUp() {
+        var primary = h2("routing-primary");
+        replica = new ReplicaNode("replica-0", h2("routing-replica"));
+        router = new ReplicaRoutingDataSource(primary, List.of(replica));
+
+        var proxy = new LazyConnectionDataSourceProxy(primary);
+        proxy.setReadOnlyDataSource(router);
+
+        var txManager = new DataSourceTransactionManager(proxy);
+        jdbc = new JdbcTemplate(proxy);
+        writeTx = new TransactionTemplate(txManager);
+        readTx = new TransactionTemplate(txManager);
+        readTx.setReadOnly(true);
+
+        var properties = new ReplicaDataSourceProperties(true, List.of(), 1,
+                Duration.ofSeconds(5), Duration.ofMillis(500), Duration.ofSeconds(1), Duration.ofSeconds(10), null);
+        healthChecker = new ReplicaHealthChecker(router, properties);
+    }
+
+    @Test
+    void readOnlyTransaction_goesToReplica() {
+        assertThat(databaseIn(readTx)).isEqualTo("ROUTING-REPLICA");
+    }
+
+    @Test
+    void writeTransaction_goesToPrimary() {
+        assertThat(databaseIn(writeTx)).isEqualTo("ROUTING-PRIMARY");
+    }
+
+    @Test
+    void unhealthyReplica_fallsBackToPrimary_untilHealthCheckRestoresIt() {
+        replica.markUnhealthy();
+        assertThat(databaseIn(readTx)).isEqualTo("ROUTING-PRIMARY");
+
+        healthChecker.checkReplicas();
+        assertThat(replica.isHealthy()).isTrue();
+        assertThat(databaseIn(readTx)).isEqualTo("ROUTING-REPLICA");
+    }
+
+    @Test
+    void laggingReplica_isTakenOutOfRotation() {
+        var lagging = new ReplicaDataSourceProperties(true, List.of(), 1,
+                Duration.ofSeconds(5), Duration.ofMillis(500), Duration.ofSeconds(1), Duration.ofSeconds(10), "SELECT 30");
+        new ReplicaHealthChecker(new ReplicaRoutingDataSource(h2("routing-primary"), List.of(replica)), lagging)
+                .checkReplicas();
+
+        assertThat(replica.isHealthy()).isFalse();
+        assertThat(databaseIn(readTx)).isEqualTo("ROUTING-PRIMARY");
+    }
+
+    @Test
+    void explicitCredentials_areRoutedLikePoolConnections() throws Exception {
+        try (var connection = router.getConnection("sa", "");
+             var rs = connection.createStatement().executeQuery("SELECT DATABASE()")) {
+            rs.next();
+            assertThat(rs.getString(1)).isEqualTo("ROUTING-REPLICA");
+        }
+    }
+
+    @Test
+    void subSecondValidationTimeout_roundsUpInsteadOfDisablingIt() {
+        var properties = new ReplicaDataSourceProperties(true, List.of(), 1,
+                Duration.ofSeconds(5), Duration.ofMillis(500), Duration.ofMillis(250), Duration.ofSeconds(10), null);
+
+        assertThat(new ReplicaHealthChecker(router, properties).validationTimeoutSeconds()).isEqualTo(1);
+        assertThat(healthChecker.validationTimeoutSeconds()).isEqualTo(1);
+    }
+
+    @Test
+    void deadReplica_fallsBackToPrimaryWithinConnectionTimeout() throws Exception {
+        var dead = new ReplicaDataSourceProperties(true,
+                List.of(new ReplicaDataSourceProperties.Replica("jdbc:h2:tcp://127.0.0.1:1/dead", "sa", "")), 1,
+                Duration.ofSeconds(5), Duration.ofMillis(500), Duration.ofMillis(250), Duration.ofSeconds(10), null);
+        var primary = new HikariDataSource();
+        primary.setJdbcUrl("jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1");
+        primary.setUsername("sa");
+        try (primary; var deadRouter = new ReadReplicaConfig().replicaRoutingDataSource(primary, dead)) {
+            primary.getConnection().close();
+            long start = System.nanoTime();
+            try (var connection = deadRouter.getConnection();
+                 var rs = connection.createStatement().executeQuery("SELECT DATABASE()")) {
+                rs.next();
+                assertThat(rs.getString(1)).isEqualTo("ROUTING-PRIMARY");
+            }
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+            assertThat(deadRouter.getReplicas().get(0).isHealthy()).isFalse();
+        }
+    }
+
+    private String databaseIn(TransactionTemplate tx) {
+        return tx.execute(status -> jdbc.queryForObject("SELECT DATABASE()", String.class));
+    }
+
+    private static DriverManagerDataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+}
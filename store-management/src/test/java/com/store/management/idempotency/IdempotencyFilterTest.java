@@ -0,0 +1,157 @@
+package com.store.management.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IdempotencyFilterTest {
+
+    private final IdempotencyStore store = new IdempotencyStore(
+            new IdempotencyProperties(true, Duration.ofMinutes(5), DataSize.ofMegabytes(1), DataSize.ofBytes(64)));
+    private final IdempotencyFilter filter = new IdempotencyFilter(store,
+            new ObjectMapper().registerModule(new JavaTimeModule()));
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @Test
+    void repeatedKey_replaysFirstResponse_withoutExecutingAgain() throws Exception {
+        var first = run(post("key-1"), 201, "{\"statusCode\":\"201\"}");
+        var second = run(post("key-1"), 201, "{\"statusCode\":\"201\"}");
+
+        assertThat(executions).hasValue(1);
+        assertThat(first.getStatus()).isEqualTo(201);
+        assertThat(second.getStatus()).isEqualTo(201);
+        assertThat(second.getContentAsString()).isEqualTo("{\"statusCode\":\"201\"}");
+        assertThat(second.getHeader(IdempotencyFilter.IDEMPOTENT_REPLAYED)).isEqualTo("true");
+    }
+
+    @Test
+    void differentKeys_executeSeparately() throws Exception {
+        run(post("key-1"), 201, "{}");
+        run(post("key-2"), 201, "{}");
+
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    void serverError_isNotStored() throws Exception {
+        run(post("key-1"), 500, "{}");
+        var retry = run(post("key-1"), 201, "{}");
+
+        assertThat(executions).hasValue(2);
+        assertThat(retry.getStatus()).isEqualTo(201);
+    }
+
+    @Test
+    void keyStillInProgress_returnsConflict() throws Exception {
+        var concurrent = new MockHttpServletResponse[1];
+        FilterChain slowChain = (req, res) -> {
+            executions.incrementAndGet();
+            concurrent[0] = run(post("key-1"), 201, "{}");
+            respond(res, 201, "{}");
+        };
+
+        filter.doFilter(post("key-1"), new MockHttpServletResponse(), slowChain);
+
+        assertThat(executions).hasValue(1);
+        assertThat(concurrent[0].getStatus()).isEqualTo(409);
+    }
+
+    @Test
+    void sameKey_withDifferentBody_isRejected() throws Exception {
+        run(post("key-1", "{\"price\":10}"), 200, "{}");
+        var reused = run(post("key-1", "{\"price\":99}"), 200, "{}");
+
+        assertThat(executions).hasValue(1);
+        assertThat(reused.getStatus()).isEqualTo(422);
+        assertThat(reused.getHeader(IdempotencyFilter.IDEMPOTENT_REPLAYED)).isNull();
+    }
+
+    @Test
+    void bufferedBody_isStillReadableDownstream() throws Exception {
+        var seen = new String[1];
+        FilterChain chain = (req, res) -> {
+            seen[0] = new String(req.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            respond(res, 200, "{}");
+        };
+
+        filter.doFilter(post("key-1", "{\"stock\":3}"), new MockHttpServletResponse(), chain);
+
+        assertThat(seen[0]).isEqualTo("{\"stock\":3}");
+    }
+
+    @Test
+    void oversizedBody_isRejectedFromContentLength_withoutRunning() throws Exception {
+        var response = run(post("key-1", "x".repeat(65)), 201, "{}");
+
+        assertThat(executions).hasValue(0);
+        assertThat(response.getStatus()).isEqualTo(413);
+    }
+
+    @Test
+    void oversizedChunkedBody_isReadOnlyUpToTheLimit() throws Exception {
+        var request = new MockHttpServletRequest("POST", "/api/products") {
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+        request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY, "key-1");
+        request.setContent(new byte[1024 * 1024]);
+
+        var response = run(request, 201, "{}");
+
+        assertThat(executions).hasValue(0);
+        assertThat(response.getStatus()).isEqualTo(413);
+        assertThat(request.getInputStream().available()).isEqualTo(1024 * 1024 - 65);
+    }
+
+    @Test
+    void requestWithoutKey_isNotTracked() throws Exception {
+        run(new MockHttpServletRequest("POST", "/api/products"), 201, "{}");
+        run(new MockHttpServletRequest("POST", "/api/products"), 201, "{}");
+
+        assertThat(executions).hasValue(2);
+    }
+
+    private MockHttpServletRequest post(String key) {
+        return post(key, "{}");
+    }
+
+    private MockHttpServletRequest post(String key, String body) {
+        var request = new MockHttpServletRequest("POST", "/api/products");
+        request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY, key);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private MockHttpServletResponse run(MockHttpServletRequest request, int status, String body)
+            throws IOException, ServletException {
+        var response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> {
+            executions.incrementAndGet();
+            respond(res, status, body);
+        };
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private static void respond(ServletResponse res, int status, String body) throws IOException {
+        ((HttpServletResponse) res).setStatus(status);
+        res.setContentType("application/json");
+        res.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,48 @@
+package com.store.management.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SamplingTurboFilterTest {
+
+    private final LoggerContext context = new LoggerContext();
+
+    @Test
+    void guardedCalls_areSampled_notDroppedByTheProbe() {
+        var filter = filter(2);
+        var sql = context.getLogger("org.hibernate.SQL");
+        var replies = new ArrayList<FilterReply>();
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(filter.decide(null, sql, Level.DEBUG, null, null, null)).isEqualTo(FilterReply.NEUTRAL);
+            replies.add(filter.decide(null, sql, Level.DEBUG, "select 1", null, null));
+        }
+
+        assertThat(replies).containsExactly(FilterReply.NEUTRAL, FilterReply.DENY, FilterReply.NEUTRAL, FilterReply.DENY);
+    }
+
+    @Test
+    void otherLoggers_areLeftAlone() {
+        var filter = filter(100);
+        var other = context.getLogger("com.store.management");
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(filter.decide(null, other, Level.DEBUG, "message", null, null)).isEqualTo(FilterReply.NEUTRAL);
+        }
+    }
+
+    private SamplingTurboFilter filter(long sampleRate) {
+        var filter = new SamplingTurboFilter();
+        filter.setContext(context);
+        filter.setLoggerName("org.hibernate.SQL");
+        filter.setSampleRate(sampleRate);
+        filter.start();
+        return filter;
+    }
+}
@@ -0,0 +1,55 @@
+package com.store.management.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AdaptiveConcurrencyLimiterTest {
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+    private static final long SLOW = Duration.ofSeconds(1).toNanos();
+
+    private final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+            new RateLimitProperties.Concurrency(4, 2, 6, Duration.ofMillis(100), 0.5));
+
+    @Test
+    void rejectsOnceLimitIsInFlight() {
+        for (int i = 0; i < 4; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.getInFlight()).isEqualTo(4);
+    }
+
+    @Test
+    void slowResponses_shrinkLimit_downToMinimum() {
+        limiter.tryAcquire();
+        limiter.release(SLOW);
+        assertThat(limiter.getLimit()).isEqualTo(2);
+
+        limiter.tryAcquire();
+        limiter.release(SLOW);
+        assertThat(limiter.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    void fastResponsesUnderLoad_growLimit_upToMaximum() {
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < limiter.getLimit(); i++) {
+                limiter.tryAcquire();
+            }
+            while (limiter.getInFlight() > 0) {
+                limiter.release(FAST);
+            }
+        }
+        assertThat(limiter.getLimit()).isEqualTo(6);
+    }
+
+    @Test
+    void fastResponsesWhenIdle_keepLimit() {
+        limiter.tryAcquire();
+        limiter.release(FAST);
+        assertThat(limiter.getLimit()).isEqualTo(4);
+    }
+}
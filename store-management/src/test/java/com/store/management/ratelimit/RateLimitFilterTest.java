@@ -0,0 +1,62 @@
+package com.store.management.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RateLimitFilterTest {
+
+    private final RateLimitFilter filter = new RateLimitFilter(
+            new RateLimiter(new RateLimitProperties(true, new RateLimitProperties.Limit(1, 0.5), Map.of(), List.of(),
+                    new RateLimitProperties.Concurrency(50, 10, 200, Duration.ofMillis(250), 0.9))),
+            new ObjectMapper().registerModule(new JavaTimeModule()));
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void exhaustedBucket_rejectsWith429AndRetryAfter() throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                "supplier", null, AuthorityUtils.createAuthorityList("ROLE_SUPPLIER")));
+
+        var first = run();
+        var second = run();
+
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(second.getStatus()).isEqualTo(429);
+        assertThat(second.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        assertThat(second.getContentAsString()).contains("Rate limit exceeded for supplier");
+    }
+
+    @Test
+    void defaultLimit_isBoundEvenWhenNotConfigured() {
+        var properties = new Binder(new MapConfigurationPropertySource(Map.of()))
+                .bindOrCreate("store.rate-limit", RateLimitProperties.class);
+
+        assertThat(properties.defaultLimit()).isEqualTo(new RateLimitProperties.Limit(50, 20));
+    }
+
+    private MockHttpServletResponse run() throws Exception {
+        var response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/products"), response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,48 @@
+package com.store.management.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TokenBucketTest {
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void allowsBurstUpToCapacity_thenRejectsWithWait() {
+        var bucket = new TokenBucket(3, 1);
+        long now = 0;
+
+        assertThat(bucket.tryAcquire(now)).isZero();
+        assertThat(bucket.tryAcquire(now)).isZero();
+        assertThat(bucket.tryAcquire(now)).isZero();
+
+        assertThat(bucket.tryAcquire(now)).isEqualTo(SECOND);
+    }
+
+    @Test
+    void refillsOverTime() {
+        var bucket = new TokenBucket(1, 2);
+
+        assertThat(bucket.tryAcquire(0)).isZero();
+        assertThat(bucket.tryAcquire(SECOND / 4)).isEqualTo(SECOND / 4);
+        assertThat(bucket.tryAcquire(SECOND / 2)).isZero();
+    }
+
+    @Test
+    void idleBucket_doesNotBankMoreThanCapacity() {
+        var bucket = new TokenBucket(2, 10);
+
+        assertThat(bucket.tryAcquire(100 * SECOND)).isZero();
+        assertThat(bucket.tryAcquire(100 * SECOND)).isZero();
+        assertThat(bucket.tryAcquire(100 * SECOND)).isPositive();
+    }
+
+    @Test
+    void invalidSettings_rejected() {
+        assertThatThrownBy(() -> new TokenBucket(0, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TokenBucket(1, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -1,24 +1,49 @@
 package com.store.management.repository;
 
+import com.store.management.dto.ProductFilterDto;
 import com.store.management.entity.Product;
+import com.store.management.repository.specification.ProductSpecifications;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.store.management.repository.ProductRepositoryTest$CapturedSql")
 public class ProductRepositoryTest {
 
+    /**
+     * Records the SQL Hibernate generates, so the EXPLAIN checks run against the real listing queries.
+     */
+    public static class CapturedSql implements StatementInspector {
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private Product p1, p2, p3;
 
     @BeforeEach
@@ -46,6 +71,22 @@ public class ProductRepositoryTest {
         assertThat(productRepository.findBySku("SKU-999")).isNotPresent();
     }
 
+    @Test
+    void findActiveBySku_skipsSoftDeletedProducts() {
+        assertThat(productRepository.findActiveBySku("SKU-001")).isPresent();
+        assertThat(productRepository.findActiveBySku("SKU-002")).isNotPresent();
+        assertThat(productRepository.existsBySkuAndActiveTrue("SKU-001")).isTrue();
+        assertThat(productRepository.existsBySkuAndActiveTrue("SKU-002")).isFalse();
+    }
+
+    @Test
+    void findAllBySkuIn_skipsUnknownSkus() {
+        assertThat(productRepository.findAllBySkuIn(List.of("SKU-001", "SKU-999", "SKU-003")))
+                .extracting(Product::getSku)
+                .containsExactlyInAnyOrder("SKU-001", "SKU-003");
+        assertThat(productRepository.findAllBySkuIn(List.of())).isEmpty();
+    }
+
     @Test
     void existsByFields_checks() {
         assertThat(productRepository.existsBySku("SKU-003")).isTrue();
@@ -65,6 +106,77 @@ public class ProductRepositoryTest {
         assertThat(inactive.getContent().get(0).getSku()).isEqualTo("SKU-002");
     }
 
+    @Test
+    void findAll_withStockAndPriceFilters() {
+        var lowStock = new ProductFilterDto(true, null, null, null, 5, null);
+        assertThat(productRepository.findAll(ProductSpecifications.fromFilter(lowStock), PageRequest.of(0, 10)))
+                .extracting(Product::getSku)
+                .containsExactly("SKU-001");
+
+        var priceRange = new ProductFilterDto(true, new BigDecimal("10"), new BigDecimal("200"), null, null, null);
+        assertThat(productRepository.findAll(ProductSpecifications.fromFilter(priceRange), PageRequest.of(0, 10)))
+                .extracting(Product::getSku)
+                .containsExactlyInAnyOrder("SKU-001", "SKU-003");
+    }
+
+    @Test
+    void findAll_withNamePrefix_escapesWildcards() {
+        var prefix = new ProductFilterDto(true, null, null, null, null, "Mo");
+        assertThat(productRepository.findAll(ProductSpecifications.fromFilter(prefix), PageRequest.of(0, 10)))
+                .extracting(Product::getSku)
+                .containsExactly("SKU-001");
+
+        var wildcard = new ProductFilterDto(true, null, null, null, null, "%");
+        assertThat(productRepository.findAll(ProductSpecifications.fromFilter(wildcard), PageRequest.of(0, 10)))
+                .isEmpty();
+    }
+
+    @Test
+    void explain_generatedListingQueries_useCompositeIndexes() {
+        var page = PageRequest.of(0, 10);
+        var newestFirst = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        assertThat(explainListing(new ProductFilterDto(true, null, null, null, 5, null), page, true, 5))
+                .containsIgnoringCase("IDX_PRODUCT_ACTIVE_")
+                .containsIgnoringCase("ACTIVE = ?1");
+        assertThat(explainListing(new ProductFilterDto(true, new BigDecimal("10"), new BigDecimal("200"), null, null, null),
+                page, true, new BigDecimal("10"), new BigDecimal("200")))
+                .containsIgnoringCase("IDX_PRODUCT_ACTIVE_PRICE");
+        assertThat(explainListing(new ProductFilterDto(true, null, null, null, null, null), newestFirst, true))
+                .containsIgnoringCase("IDX_PRODUCT_ACTIVE_CREATED_AT");
+        assertThat(explainListing(new ProductFilterDto(true, null, null, null, null, "Mo"), page, true, "Mo%"))
+                .containsIgnoringCase("IDX_PRODUCT_ACTIVE_NAME");
+    }
+
+    /**
+     * Runs the Specification listing, then EXPLAINs the exact select Hibernate sent, binding
+     * {@code predicateParams} followed by the page offset and limit.
+     */
+    private String explainListing(ProductFilterDto filter, PageRequest page, Object... predicateParams) {
+        CapturedSql.STATEMENTS.clear();
+        productRepository.findAll(ProductSpecifications.fromFilter(filter), page);
+        var sql = CapturedSql.STATEMENTS.stream()
+                .filter(s -> s.startsWith("select") && !s.contains("count("))
+                .reduce((first, second) -> second)
+                .orElseThrow();
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (var statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                int index = 1;
+                for (var param : predicateParams) {
+                    statement.setObject(index++, param);
+                }
+                if (sql.contains("offset ?")) {
+                    statement.setLong(index++, page.getOffset());
+                }
+                statement.setInt(index, page.getPageSize());
+                try (var rs = statement.executeQuery()) {
+                    rs.next();
+                    return sql + "\n" + rs.getString(1);
+                }
+            }
+        });
+    }
+
     private Product newProduct(String sku, String name, boolean active,
                                String desc, BigDecimal price, int stock) {
         Product p = new Product();
@@ -0,0 +1,53 @@
+package com.store.management.repository;
+
+import com.store.management.entity.Product;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.annotation.DirtiesContext;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs in a fresh context so the id optimizer has not fetched a block from {@code products_seq} yet.
+ */
+@DataJpaTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_CLASS)
+public class ProductSequenceMigrationTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void migration_restartsSequenceAboveIdsAssignedBeforeIt() {
+        entityManager.createNativeQuery("""
+                insert into products (id, version, sku, product_name, price, stock, created_at, active)
+                values (1000, 0, 'SKU-LEGACY', 'Legacy', 1.00, 1, current_timestamp, true)""")
+                .executeUpdate();
+
+        ScriptUtils.executeSqlScript(DataSourceUtils.getConnection(dataSource),
+                new ClassPathResource("db/products-seq-migration.sql"));
+
+        var product = new Product();
+        product.setSku("SKU-NEW");
+        product.setProductName("New");
+        product.setPrice(new BigDecimal("2.00"));
+        product.setStock(1);
+        var saved = productRepository.saveAndFlush(product);
+
+        assertThat(saved.getId()).isGreaterThan(1000L);
+    }
+}
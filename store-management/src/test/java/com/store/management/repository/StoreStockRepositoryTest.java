@@ -0,0 +1,100 @@
+package com.store.management.repository;
+
+import com.store.management.entity.Product;
+import com.store.management.entity.ProductStockTotal;
+import com.store.management.entity.StoreStock;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+public class StoreStockRepositoryTest {
+
+    @Autowired
+    private StoreStockRepository storeStockRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductStockTotalRepository stockTotalRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        product = new Product();
+        product.setSku("SKU-001");
+        product.setProductName("Mouse");
+        product.setPrice(new BigDecimal("10.00"));
+        product.setStock(7);
+        product = productRepository.save(product);
+
+        storeStockRepository.save(new StoreStock(product, "STORE-A", 5));
+        storeStockRepository.save(new StoreStock(product, "STORE-B", 2));
+        entityManager.flush();
+    }
+
+    @Test
+    void adjustQuantity_appliesDeltaToOneStoreOnly() {
+        assertThat(storeStockRepository.adjustQuantity(product.getId(), "STORE-A", -3)).isEqualTo(1);
+        entityManager.clear();
+
+        assertThat(storeStockRepository.findAllByProductIdOrderByStoreCode(product.getId()))
+                .extracting(StoreStock::getStoreCode, StoreStock::getQuantity)
+                .containsExactly(
+                        tuple("STORE-A", 2),
+                        tuple("STORE-B", 2));
+    }
+
+    @Test
+    void adjustQuantity_refusesToGoNegative() {
+        assertThat(storeStockRepository.adjustQuantity(product.getId(), "STORE-B", -3)).isZero();
+        assertThat(storeStockRepository.adjustQuantity(product.getId(), "STORE-C", 1)).isZero();
+    }
+
+    @Test
+    void lockAndBumpVersion_reloadsCurrentState_andBumpsVersion() {
+        var version = product.getVersion();
+        entityManager.createNativeQuery("update products set stock = 20 where id = :id")
+                .setParameter("id", product.getId())
+                .executeUpdate();
+
+        productRepository.lockAndBumpVersion(product);
+        assertThat(product.getStock()).isEqualTo(20);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(productRepository.findById(product.getId()))
+                .get()
+                .extracting(Product::getVersion)
+                .isEqualTo(version + 1);
+    }
+
+    @Test
+    void addToTotal_shiftsTotalInPlace_andProductReportsIt_withoutVersionBump() {
+        var version = product.getVersion();
+        stockTotalRepository.save(new ProductStockTotal(product.getId(), 7));
+        entityManager.flush();
+
+        assertThat(stockTotalRepository.addToTotal(product.getId(), -3)).isEqualTo(1);
+        productRepository.evictFromSecondLevelCache(product);
+        entityManager.clear();
+
+        var reloaded = productRepository.findBySku("SKU-001").orElseThrow();
+        assertThat(reloaded.isStockTrackedPerStore()).isTrue();
+        assertThat(reloaded.currentStock()).isEqualTo(4);
+        assertThat(reloaded.getVersion()).isEqualTo(version);
+        assertThat(stockTotalRepository.addToTotal(-1L, 1)).isZero();
+    }
+}
@@ -1,10 +1,14 @@
 package com.store.management.service;
 
+import com.store.management.archive.ProductArchiver;
 import com.store.management.dto.ProductDto;
+import com.store.management.dto.ProductFilterDto;
 import com.store.management.entity.Product;
 import com.store.management.exception.FieldConflictException;
 import com.store.management.exception.ProductAlreadyExistsException;
 import com.store.management.exception.ResourceNotFoundException;
+import com.store.management.exception.StockTrackedPerStoreException;
+import com.store.management.cache.ProductBatchLoader;
 import com.store.management.mapper.ProductMapper;
 import com.store.management.repository.ProductRepository;
 import com.store.management.service.impl.ProductServiceImpl;
@@ -17,10 +21,14 @@ import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -33,6 +41,10 @@ public class ProductServiceImplTest {
     ProductRepository productRepository;
     @Spy
     private ProductMapper mapper = Mappers.getMapper(ProductMapper.class);
+    @Mock
+    ProductBatchLoader batchLoader;
+    @Mock
+    ProductArchiver archiver;
 
     @InjectMocks
     ProductServiceImpl service;
@@ -61,6 +73,20 @@ public class ProductServiceImplTest {
         assertThat(saved.getPrice()).isEqualByComparingTo("10.00");
         assertThat(saved.getStock()).isEqualTo(5);
         assertThat(saved.getActive()).isTrue();
+        verify(archiver, never()).archive(any());
+    }
+
+    @Test
+    void createProduct_archivesSoftDeletedHolderFirst() {
+        var deleted = entity("SKU-1", "Old", "OD", "1.00", 0, false);
+        when(productRepository.findInactiveBySkuOrProductName("SKU-1", "Prod")).thenReturn(List.of(deleted));
+
+        service.createProduct(baseDto);
+
+        var inOrder = inOrder(archiver, productRepository);
+        inOrder.verify(archiver).archive(List.of(deleted));
+        inOrder.verify(productRepository).existsBySku("SKU-1");
+        inOrder.verify(productRepository).save(any(Product.class));
     }
 
     @Test
@@ -85,7 +111,7 @@ public class ProductServiceImplTest {
     @Test
     void updateProduct_ok() {
         var existing = entity("SKU-1", "Old", "OD", "1.00", 1, true);
-        when(productRepository.findBySku("SKU-1")).thenReturn(Optional.of(existing));
+        when(productRepository.findActiveBySku("SKU-1")).thenReturn(Optional.of(existing));
 
         service.updateProduct("SKU-1", baseDto);
 
@@ -103,14 +129,14 @@ public class ProductServiceImplTest {
 
     @Test
     void updateProduct_throws_notFound() {
-        when(productRepository.findBySku("SKU1000")).thenReturn(Optional.empty());
+        when(productRepository.findActiveBySku("SKU1000")).thenReturn(Optional.empty());
         assertThatThrownBy(() -> service.updateProduct("SKU1000", baseDto))
                 .isInstanceOf(ResourceNotFoundException.class);
     }
 
     @Test
     void updateProduct_throws_optimisticLock() {
-        when(productRepository.findBySku("SKU-1")).thenReturn(Optional.of(baseEntity));
+        when(productRepository.findActiveBySku("SKU-1")).thenReturn(Optional.of(baseEntity));
         doThrow(new OptimisticLockingFailureException("")).when(productRepository).save(baseEntity);
 
         assertThatThrownBy(() -> service.updateProduct("SKU-1", baseDto))
@@ -119,7 +145,7 @@ public class ProductServiceImplTest {
 
     @Test
     void updatePrice_ok() {
-        when(productRepository.findBySku("SKU-1")).thenReturn(Optional.of(baseEntity));
+        when(productRepository.findActiveBySku("SKU-1")).thenReturn(Optional.of(baseEntity));
 
         service.updateProductPrice("SKU-1", new BigDecimal("15.50"));
 
@@ -133,14 +159,14 @@ public class ProductServiceImplTest {
 
     @Test
     void updatePrice_notFound_throws() {
-        when(productRepository.findBySku("SKU1000")).thenReturn(Optional.empty());
+        when(productRepository.findActiveBySku("SKU1000")).thenReturn(Optional.empty());
         assertThatThrownBy(() -> service.updateProductPrice("SKU1000", new BigDecimal("1")))
                 .isInstanceOf(ResourceNotFoundException.class);
     }
 
     @Test
     void updateStock_ok_setsAndSaves_capturedFields() {
-        when(productRepository.findBySku("SKU-1")).thenReturn(Optional.of(baseEntity));
+        when(productRepository.findActiveBySku("SKU-1")).thenReturn(Optional.of(baseEntity));
 
         service.updateProductStock("SKU-1", 100);
 
@@ -152,20 +178,41 @@ public class ProductServiceImplTest {
         assertThat(saved.getSku()).isEqualTo("SKU-1");
     }
 
+    @Test
+    void updateStock_trackedPerStore_isRejected() {
+        ReflectionTestUtils.setField(baseEntity, "storeStockTotal", 9);
+        when(productRepository.findActiveBySku("SKU-1")).thenReturn(Optional.of(baseEntity));
+
+        assertThatThrownBy(() -> service.updateProductStock("SKU-1", 100))
+                .isInstanceOf(StockTrackedPerStoreException.class);
+        verify(productRepository, never()).save(any());
+    }
+
+    @Test
+    void updateProduct_trackedPerStore_rejectsDifferentStock_acceptsCurrentTotal() {
+        ReflectionTestUtils.setField(baseEntity, "storeStockTotal", 9);
+        when(productRepository.findActiveBySku("SKU-1")).thenReturn(Optional.of(baseEntity));
+
+        assertThatThrownBy(() -> service.updateProduct("SKU-1", baseDto))
+                .isInstanceOf(StockTrackedPerStoreException.class);
+
+        service.updateProduct("SKU-1", dto("SKU-1", "Prod", "D", "10.00", 9, true));
+        verify(productRepository).save(baseEntity);
+    }
+
     @Test
     void findBySku_ok() {
-        when(productRepository.findBySku("SKU-1")).thenReturn(Optional.of(baseEntity));
-        when(mapper.toDto(baseEntity)).thenReturn(baseDto);
+        when(batchLoader.load("SKU-1")).thenReturn(CompletableFuture.completedFuture(Optional.of(baseDto)));
 
         var dto = service.findBySku("SKU-1");
 
         assertThat(dto.sku()).isEqualTo("SKU-1");
-        verify(mapper).toDto(baseEntity);
+        verify(productRepository, never()).findBySku("SKU-1");
     }
 
     @Test
     void findBySku_notFound_throws() {
-        when(productRepository.findBySku("SKU1000")).thenReturn(Optional.empty());
+        when(batchLoader.load("SKU1000")).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
         assertThatThrownBy(() -> service.findBySku("SKU1000"))
                 .isInstanceOf(ResourceNotFoundException.class);
     }
@@ -180,21 +227,48 @@ public class ProductServiceImplTest {
         when(mapper.toDto(p1)).thenReturn(dto("SKU-1", "aa", "", "1.00", 1, true));
         when(mapper.toDto(p2)).thenReturn(dto("SKU-2", "b", "", "2", 2, true));
 
-        Page<ProductDto> result = service.getProducts(true, PageRequest.of(0, 10));
+        Page<ProductDto> result = service.getProducts(ProductFilterDto.ofActive(true), PageRequest.of(0, 10));
 
         assertThat(result.getTotalElements()).isEqualTo(2);
         assertThat(result.map(ProductDto::sku).getContent()).containsExactly("SKU-1", "SKU-2");
+        verify(productRepository, never()).findAll(ArgumentMatchers.<Specification<Product>>any(), any(Pageable.class));
+    }
+
+    @Test
+    void getProducts_withRangeFilter_usesSpecification() {
+        var p1 = entity("SKU-1", "aa", "", "1.00", 1, true);
+        var page = new PageImpl<>(List.of(p1), PageRequest.of(0, 10), 1);
+        var filter = new ProductFilterDto(true, null, null, null, 5, null);
+
+        when(productRepository.findAll(ArgumentMatchers.<Specification<Product>>any(), eq(PageRequest.of(0, 10))))
+                .thenReturn(page);
+
+        Page<ProductDto> result = service.getProducts(filter, PageRequest.of(0, 10));
+
+        assertThat(result.map(ProductDto::sku).getContent()).containsExactly("SKU-1");
+        verify(productRepository, never()).findAllByActive(anyBoolean(), any());
     }
 
     @Test
     void deleteProduct_ok() {
-        when(productRepository.findBySku("SKU-1")).thenReturn(Optional.of(baseEntity));
+        when(productRepository.findActiveBySku("SKU-1")).thenReturn(Optional.of(baseEntity));
 
         service.deleteProduct("SKU-1");
 
-        verify(productRepository).delete(productCaptor.capture());
+        verify(productRepository).save(productCaptor.capture());
+        verify(productRepository, never()).delete(any(Product.class));
         var deleted = productCaptor.getValue();
         assertThat(deleted.getSku()).isEqualTo("SKU-1");
+        assertThat(deleted.getActive()).isFalse();
+    }
+
+    @Test
+    void deleteProduct_alreadyDeleted_throwsNotFound() {
+        when(productRepository.findActiveBySku("SKU-1")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.deleteProduct("SKU-1"))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(productRepository, never()).save(any(Product.class));
     }
 
     private ProductDto dto(String sku, String name, String desc,
@@ -0,0 +1,121 @@
+package com.store.management.service;
+
+import com.store.management.constants.StoreManagementConstants;
+import com.store.management.entity.Product;
+import com.store.management.entity.ProductStockTotal;
+import com.store.management.entity.StoreStock;
+import com.store.management.exception.InsufficientStockException;
+import com.store.management.exception.ResourceNotFoundException;
+import com.store.management.mapper.StoreStockMapper;
+import com.store.management.repository.ProductRepository;
+import com.store.management.repository.ProductStockTotalRepository;
+import com.store.management.repository.StoreStockRepository;
+import com.store.management.service.impl.StoreStockServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.*;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class StoreStockServiceImplTest {
+
+    @Mock
+    ProductRepository productRepository;
+    @Mock
+    StoreStockRepository storeStockRepository;
+    @Mock
+    ProductStockTotalRepository stockTotalRepository;
+    @Spy
+    private StoreStockMapper mapper = Mappers.getMapper(StoreStockMapper.class);
+
+    @InjectMocks
+    StoreStockServiceImpl service;
+
+    @Captor
+    ArgumentCaptor<StoreStock> storeStockCaptor;
+    @Captor
+    ArgumentCaptor<ProductStockTotal> totalCaptor;
+
+    private final Product product = mock(Product.class);
+
+    @Test
+    void adjustStoreStock_existingRow_updatesRowAndTotal_withoutTouchingProduct() {
+        when(product.getId()).thenReturn(1L);
+        when(productRepository.findActiveBySku("SKU-1")).thenReturn(Optional.of(product));
+        when(stockTotalRepository.existsById(1L)).thenReturn(true);
+        when(storeStockRepository.adjustQuantity(1L, "STORE-A", -2)).thenReturn(1);
+
+        service.adjustStoreStock("SKU-1", "STORE-A", -2);
+
+        verify(storeStockRepository, never()).save(any());
+        var order = inOrder(storeStockRepository, stockTotalRepository, productRepository);
+        order.verify(storeStockRepository).adjustQuantity(1L, "STORE-A", -2);
+        order.verify(stockTotalRepository).addToTotal(1L, -2);
+        order.verify(productRepository).evictFromSecondLevelCache(product);
+        verify(productRepository, never()).lockAndBumpVersion(any());
+        verify(product, never()).setStock(anyInt());
+    }
+
+    @Test
+    void adjustStoreStock_newStore_createsRow() {
+        when(product.getId()).thenReturn(1L);
+        when(productRepository.findActiveBySku("SKU-1")).thenReturn(Optional.of(product));
+        when(stockTotalRepository.existsById(1L)).thenReturn(true);
+        when(storeStockRepository.adjustQuantity(1L, "STORE-B", 4)).thenReturn(0);
+        when(storeStockRepository.existsByProductIdAndStoreCode(1L, "STORE-B")).thenReturn(false);
+
+        service.adjustStoreStock("SKU-1", "STORE-B", 4);
+
+        verify(storeStockRepository).save(storeStockCaptor.capture());
+        assertThat(storeStockCaptor.getValue().getStoreCode()).isEqualTo("STORE-B");
+        assertThat(storeStockCaptor.getValue().getQuantity()).isEqualTo(4);
+        verify(stockTotalRepository).addToTotal(1L, 4);
+    }
+
+    @Test
+    void adjustStoreStock_firstMovement_movesExistingStockToDefaultStore() {
+        when(product.getId()).thenReturn(1L);
+        when(product.getStock()).thenReturn(7);
+        when(productRepository.findActiveBySku("SKU-1")).thenReturn(Optional.of(product));
+        when(stockTotalRepository.existsById(1L)).thenReturn(false);
+        when(storeStockRepository.adjustQuantity(1L, "STORE-A", -2)).thenReturn(1);
+
+        service.adjustStoreStock("SKU-1", "STORE-A", -2);
+
+        var order = inOrder(productRepository, storeStockRepository, stockTotalRepository);
+        order.verify(productRepository).lockAndBumpVersion(product);
+        order.verify(storeStockRepository).save(storeStockCaptor.capture());
+        order.verify(stockTotalRepository).save(totalCaptor.capture());
+        order.verify(storeStockRepository).adjustQuantity(1L, "STORE-A", -2);
+        order.verify(stockTotalRepository).addToTotal(1L, -2);
+        assertThat(storeStockCaptor.getValue().getStoreCode()).isEqualTo(StoreManagementConstants.DEFAULT_STORE_CODE);
+        assertThat(storeStockCaptor.getValue().getQuantity()).isEqualTo(7);
+        assertThat(totalCaptor.getValue().getTotal()).isEqualTo(7);
+    }
+
+    @Test
+    void adjustStoreStock_insufficient_throws() {
+        when(product.getId()).thenReturn(1L);
+        when(productRepository.findActiveBySku("SKU-1")).thenReturn(Optional.of(product));
+        when(stockTotalRepository.existsById(1L)).thenReturn(true);
+        when(storeStockRepository.adjustQuantity(1L, "STORE-A", -9)).thenReturn(0);
+
+        assertThatThrownBy(() -> service.adjustStoreStock("SKU-1", "STORE-A", -9))
+                .isInstanceOf(InsufficientStockException.class);
+        verify(stockTotalRepository, never()).addToTotal(anyLong(), anyInt());
+    }
+
+    @Test
+    void getStoreStock_notFound_throws() {
+        when(productRepository.findBySku("SKU1000")).thenReturn(Optional.empty());
+        assertThatThrownBy(() -> service.getStoreStock("SKU1000"))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+}